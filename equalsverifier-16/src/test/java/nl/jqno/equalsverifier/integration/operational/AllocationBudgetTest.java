@@ -0,0 +1,290 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards against regressions in the number of bytes that a verification allocates.
+ *
+ * <p>Each scenario is verified a number of times to warm up EqualsVerifier's caches and the JIT,
+ * and then measured a number of times on the current thread; the lowest measurement must stay
+ * within the scenario's budget in {@code allocation-budgets.properties}. Budgets are kept per JDK
+ * feature version, and scenarios without a budget for the running JDK are skipped.
+ */
+public class AllocationBudgetTest {
+
+    private static final String BUDGETS = "/allocation-budgets.properties";
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 5;
+
+    private static ThreadMXBean threads;
+    private static Properties budgets;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream(BUDGETS)) {
+            budgets.load(in);
+        }
+    }
+
+    @Test
+    public void pojoWith20Fields() {
+        assertWithinBudget(
+            "pojo20",
+            () -> EqualsVerifier.forClass(TwentyFields.class).verify()
+        );
+    }
+
+    @Test
+    public void genericContainer() {
+        assertWithinBudget(
+            "genericContainer",
+            () -> EqualsVerifier.forClass(GenericContainer.class).verify()
+        );
+    }
+
+    @Test
+    public void record() {
+        assertWithinBudget("record", () -> EqualsVerifier.forClass(Person.class).verify());
+    }
+
+    @Test
+    public void entity() {
+        assertWithinBudget("entity", () -> EqualsVerifier.forClass(Customer.class).verify());
+    }
+
+    private static void assertWithinBudget(String scenario, Runnable verification) {
+        String key = Runtime.version().feature() + "." + scenario;
+        String property = budgets.getProperty(key);
+        assumeTrue(property != null, () -> "No allocation budget for " + key + " in " + BUDGETS);
+        long budget = Long.parseLong(property);
+        long allocated = allocatedBytes(verification);
+        assertTrue(
+            allocated <= budget,
+            () ->
+                "Verifying scenario " +
+                key +
+                " allocated " +
+                allocated +
+                " bytes, which exceeds its budget of " +
+                budget +
+                " bytes in " +
+                BUDGETS
+        );
+    }
+
+    private static long allocatedBytes(Runnable verification) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            verification.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long result = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            verification.run();
+            result = Math.min(result, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return result;
+    }
+
+    record Person(String name, LocalDate birthDate, List<String> nicknames, int shoeSize) {}
+
+    static final class GenericContainer<T> {
+
+        private final List<T> list;
+        private final Map<String, Set<T>> map;
+        private final Optional<T> optional;
+
+        GenericContainer(List<T> list, Map<String, Set<T>> map, Optional<T> optional) {
+            this.list = list;
+            this.map = map;
+            this.optional = optional;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (
+                obj instanceof GenericContainer<?> other &&
+                Objects.equals(list, other.list) &&
+                Objects.equals(map, other.map) &&
+                Objects.equals(optional, other.optional)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(list, map, optional);
+        }
+    }
+
+    @Entity
+    static class Customer {
+
+        @Id
+        private long id;
+
+        private String name;
+        private LocalDate since;
+
+        @Override
+        public final boolean equals(Object obj) {
+            return (
+                obj instanceof Customer other &&
+                Objects.equals(name, other.name) &&
+                Objects.equals(since, other.since)
+            );
+        }
+
+        @Override
+        public final int hashCode() {
+            return Objects.hash(name, since);
+        }
+    }
+
+    static final class TwentyFields {
+
+        private final int f1;
+        private final long f2;
+        private final double f3;
+        private final boolean f4;
+        private final char f5;
+        private final String f6;
+        private final Integer f7;
+        private final Long f8;
+        private final LocalDate f9;
+        private final List<String> f10;
+        private final int f11;
+        private final long f12;
+        private final float f13;
+        private final byte f14;
+        private final short f15;
+        private final String f16;
+        private final Double f17;
+        private final Boolean f18;
+        private final Set<Integer> f19;
+        private final Map<String, String> f20;
+
+        // CHECKSTYLE OFF: ParameterNumber
+        TwentyFields(
+            int f1,
+            long f2,
+            double f3,
+            boolean f4,
+            char f5,
+            String f6,
+            Integer f7,
+            Long f8,
+            LocalDate f9,
+            List<String> f10,
+            int f11,
+            long f12,
+            float f13,
+            byte f14,
+            short f15,
+            String f16,
+            Double f17,
+            Boolean f18,
+            Set<Integer> f19,
+            Map<String, String> f20
+        ) {
+            this.f1 = f1;
+            this.f2 = f2;
+            this.f3 = f3;
+            this.f4 = f4;
+            this.f5 = f5;
+            this.f6 = f6;
+            this.f7 = f7;
+            this.f8 = f8;
+            this.f9 = f9;
+            this.f10 = f10;
+            this.f11 = f11;
+            this.f12 = f12;
+            this.f13 = f13;
+            this.f14 = f14;
+            this.f15 = f15;
+            this.f16 = f16;
+            this.f17 = f17;
+            this.f18 = f18;
+            this.f19 = f19;
+            this.f20 = f20;
+        }
+
+        // CHECKSTYLE ON: ParameterNumber
+
+        @Override
+        public boolean equals(Object obj) {
+            return (
+                obj instanceof TwentyFields o &&
+                f1 == o.f1 &&
+                f2 == o.f2 &&
+                Double.compare(f3, o.f3) == 0 &&
+                f4 == o.f4 &&
+                f5 == o.f5 &&
+                Objects.equals(f6, o.f6) &&
+                Objects.equals(f7, o.f7) &&
+                Objects.equals(f8, o.f8) &&
+                Objects.equals(f9, o.f9) &&
+                Objects.equals(f10, o.f10) &&
+                f11 == o.f11 &&
+                f12 == o.f12 &&
+                Float.compare(f13, o.f13) == 0 &&
+                f14 == o.f14 &&
+                f15 == o.f15 &&
+                Objects.equals(f16, o.f16) &&
+                Objects.equals(f17, o.f17) &&
+                Objects.equals(f18, o.f18) &&
+                Objects.equals(f19, o.f19) &&
+                Objects.equals(f20, o.f20)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                f1,
+                f2,
+                f3,
+                f4,
+                f5,
+                f6,
+                f7,
+                f8,
+                f9,
+                f10,
+                f11,
+                f12,
+                f13,
+                f14,
+                f15,
+                f16,
+                f17,
+                f18,
+                f19,
+                f20
+            );
+        }
+    }
+}
@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.prefabvalues.*;
@@ -16,7 +15,7 @@ import org.junit.jupiter.api.Test;
 
 public class RecordObjectAccessorScramblingTest {
 
-    private static final LinkedHashSet<TypeTag> EMPTY_TYPE_STACK = new LinkedHashSet<>();
+    private static final TypeStack EMPTY_TYPE_STACK = TypeStack.empty();
     private FactoryCache factoryCache;
     private PrefabValues prefabValues;
 
@@ -0,0 +1,150 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+public final class FlightRecorderHelper {
+
+    private static final Runnable NOOP = () -> {};
+    private static final boolean SUPPORTED = isJfrPresent();
+
+    private FlightRecorderHelper() {}
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    public static Runnable beginVerification(Class<?> type) {
+        if (!SUPPORTED || !Events.VERIFICATION.isEnabled()) {
+            return NOOP;
+        }
+        var event = new VerificationEvent();
+        event.type = type;
+        event.begin();
+        return event::commit;
+    }
+
+    public static Runnable beginCheck(Class<?> type, String checker) {
+        if (!SUPPORTED || !Events.CHECK.isEnabled()) {
+            return NOOP;
+        }
+        var event = new CheckEvent();
+        event.type = type;
+        event.checker = checker;
+        event.begin();
+        return event::commit;
+    }
+
+    public static Runnable beginPrefabValueCreation(Object typeTag) {
+        if (!SUPPORTED || !Events.PREFAB_VALUE_CREATION.isEnabled()) {
+            return NOOP;
+        }
+        var event = new PrefabValueCreationEvent();
+        event.typeTag = String.valueOf(typeTag);
+        event.begin();
+        return event::commit;
+    }
+
+    public static Runnable beginAnnotationCacheBuild(Class<?> type) {
+        if (!SUPPORTED || !Events.ANNOTATION_CACHE_BUILD.isEnabled()) {
+            return NOOP;
+        }
+        var event = new AnnotationCacheBuildEvent();
+        event.type = type;
+        event.begin();
+        return event::commit;
+    }
+
+    public static Runnable beginDynamicSubclassGeneration(Class<?> superclass, String nameSuffix) {
+        if (!SUPPORTED || !Events.DYNAMIC_SUBCLASS_GENERATION.isEnabled()) {
+            return NOOP;
+        }
+        var event = new DynamicSubclassGenerationEvent();
+        event.superclass = superclass;
+        event.nameSuffix = nameSuffix;
+        event.begin();
+        return event::commit;
+    }
+
+    // The jdk.jfr module is optional in custom runtime images.
+    private static boolean isJfrPresent() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // Only initialized when jdk.jfr is present.
+    private static final class Events {
+
+        private static final EventType VERIFICATION = EventType.getEventType(
+            VerificationEvent.class
+        );
+        private static final EventType CHECK = EventType.getEventType(CheckEvent.class);
+        private static final EventType PREFAB_VALUE_CREATION = EventType.getEventType(
+            PrefabValueCreationEvent.class
+        );
+        private static final EventType ANNOTATION_CACHE_BUILD = EventType.getEventType(
+            AnnotationCacheBuildEvent.class
+        );
+        private static final EventType DYNAMIC_SUBCLASS_GENERATION = EventType.getEventType(
+            DynamicSubclassGenerationEvent.class
+        );
+    }
+
+    @Name("nl.jqno.equalsverifier.Verification")
+    @Label("Verification")
+    @Category("EqualsVerifier")
+    static final class VerificationEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+    }
+
+    @Name("nl.jqno.equalsverifier.Check")
+    @Label("Check")
+    @Category("EqualsVerifier")
+    static final class CheckEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+
+        @Label("Checker")
+        String checker;
+    }
+
+    @Name("nl.jqno.equalsverifier.PrefabValueCreation")
+    @Label("Prefab Value Creation")
+    @Category("EqualsVerifier")
+    static final class PrefabValueCreationEvent extends Event {
+
+        @Label("Type Tag")
+        String typeTag;
+    }
+
+    @Name("nl.jqno.equalsverifier.AnnotationCacheBuild")
+    @Label("Annotation Cache Build")
+    @Category("EqualsVerifier")
+    static final class AnnotationCacheBuildEvent extends Event {
+
+        @Label("Type")
+        Class<?> type;
+    }
+
+    @Name("nl.jqno.equalsverifier.DynamicSubclassGeneration")
+    @Label("Dynamic Subclass Generation")
+    @Category("EqualsVerifier")
+    static final class DynamicSubclassGenerationEvent extends Event {
+
+        @Label("Superclass")
+        Class<?> superclass;
+
+        @Label("Name Suffix")
+        String nameSuffix;
+    }
+}
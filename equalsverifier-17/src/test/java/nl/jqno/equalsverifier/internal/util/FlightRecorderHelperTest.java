@@ -0,0 +1,136 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FlightRecorderHelperTest {
+
+    private static final String PREFIX = "nl.jqno.equalsverifier.";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void isSupported() {
+        assertTrue(FlightRecorderHelper.isSupported());
+    }
+
+    @Test
+    void emitsEventsForEachPhaseOfAVerification() throws IOException {
+        List<RecordedEvent> events = record(() ->
+            EqualsVerifier.forClass(JfrContainer.class).verify()
+        );
+
+        Set<String> names = events
+            .stream()
+            .map(e -> e.getEventType().getName())
+            .collect(Collectors.toSet());
+        assertTrue(names.contains(PREFIX + "Verification"));
+        assertTrue(names.contains(PREFIX + "Check"));
+        assertTrue(names.contains(PREFIX + "PrefabValueCreation"));
+        assertTrue(names.contains(PREFIX + "AnnotationCacheBuild"));
+
+        Set<String> checkers = events
+            .stream()
+            .filter(e -> e.getEventType().getName().equals(PREFIX + "Check"))
+            .map(e -> e.getString("checker"))
+            .collect(Collectors.toSet());
+        assertTrue(checkers.contains("FieldsChecker"));
+    }
+
+    @Test
+    void emitsDynamicSubclassGenerationEvent() throws IOException {
+        List<RecordedEvent> events = record(() ->
+            FlightRecorderHelper.beginDynamicSubclassGeneration(Object.class, "suffix").run()
+        );
+
+        assertEquals(1, events.size());
+        assertEquals("suffix", events.get(0).getString("nameSuffix"));
+    }
+
+    @Test
+    void emitsNothingWhenNotRecording() {
+        Runnable first = FlightRecorderHelper.beginVerification(Object.class);
+        Runnable second = FlightRecorderHelper.beginVerification(String.class);
+        assertSame(first, second);
+    }
+
+    @Test
+    void emitsNothingWhenEventIsDisabled() throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "Check");
+            recording.disable(PREFIX + "Verification");
+            recording.start();
+            Runnable first = FlightRecorderHelper.beginVerification(Object.class);
+            Runnable second = FlightRecorderHelper.beginVerification(String.class);
+            FlightRecorderHelper.beginCheck(Object.class, "checker").run();
+            first.run();
+            recording.stop();
+            recording.dump(file);
+            assertSame(first, second);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        assertEquals(PREFIX + "Check", events.get(0).getEventType().getName());
+    }
+
+    private List<RecordedEvent> record(Runnable block) throws IOException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "Verification");
+            recording.enable(PREFIX + "Check");
+            recording.enable(PREFIX + "PrefabValueCreation");
+            recording.enable(PREFIX + "AnnotationCacheBuild");
+            recording.enable(PREFIX + "DynamicSubclassGeneration");
+            recording.start();
+            block.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    static final class JfrContainer {
+
+        private final JfrElement element;
+
+        JfrContainer(JfrElement element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof JfrContainer other && Objects.equals(element, other.element);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(element);
+        }
+    }
+
+    static final class JfrElement {
+
+        private final int value;
+
+        JfrElement(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Note: this is the Java 21 implementation of a multi-release jar class.
+ * See equalsverifier-core for the generic implementation.
+ */
+public final class VirtualThreadsHelper {
+
+    private VirtualThreadsHelper() {}
+
+    /**
+     * Creates an executor that runs each task on its own virtual thread, with at most {@code
+     * maxConcurrency} tasks running at the same time.
+     *
+     * @param maxConcurrency The maximum number of tasks that run at the same time.
+     * @return An executor that never runs more than {@code maxConcurrency} tasks at once.
+     */
+    public static ExecutorService newExecutor(int maxConcurrency) {
+        ThreadFactory factory = Thread.ofVirtual().name("equalsverifier-virtual-", 1).factory();
+        return new BoundedExecutor(Executors.newThreadPerTaskExecutor(factory), maxConcurrency);
+    }
+
+    /**
+     * Runs each task on its own thread, but no more than a fixed number of them at the same time.
+     * The other tasks wait for a permit on their own thread, which is cheap for a virtual thread.
+     *
+     * <p>Waiting for a permit can't be interrupted: a task that is cancelled while it waits still
+     * gets its turn, but then returns immediately.
+     */
+    private static final class BoundedExecutor extends AbstractExecutorService {
+
+        private final ExecutorService threads;
+        private final Semaphore permits;
+
+        private BoundedExecutor(ExecutorService threads, int maxConcurrency) {
+            this.threads = threads;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            threads.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            threads.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return threads.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return threads.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return threads.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return threads.awaitTermination(timeout, unit);
+        }
+    }
+}
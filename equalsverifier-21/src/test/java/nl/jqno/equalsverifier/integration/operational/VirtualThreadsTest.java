@@ -0,0 +1,48 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+    @Test
+    void succeed_whenVerifyingSeveralCorrectClasses_givenVirtualThreads() {
+        EqualsVerifier.forClasses(Point.class, Line.class, Name.class).withVirtualThreads(2).verify();
+    }
+
+    @Test
+    void fail_whenReportingOnAnIncorrectClass_givenVirtualThreads() {
+        var reports = EqualsVerifier
+            .forClasses(Point.class, Broken.class, Name.class)
+            .withVirtualThreads(2)
+            .report();
+
+        assertEquals(3, reports.size());
+        assertTrue(reports.get(0).isSuccessful());
+        assertFalse(reports.get(1).isSuccessful());
+        assertEquals(Broken.class, reports.get(1).getType());
+        assertTrue(reports.get(2).isSuccessful());
+    }
+
+    record Point(int x, int y) {}
+
+    record Line(Point from, Point to) {}
+
+    record Name(String first, String last) {}
+
+    record Broken(int value) {
+        @Override
+        public boolean equals(Object obj) {
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+}
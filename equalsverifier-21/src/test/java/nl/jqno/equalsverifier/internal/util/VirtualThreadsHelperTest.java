@@ -0,0 +1,60 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsHelperTest {
+
+    @Test
+    void executorRunsTasksOnVirtualThreads() throws Exception {
+        try (ExecutorService executor = VirtualThreadsHelper.newExecutor(2)) {
+            var isVirtual = executor.submit(() -> Thread.currentThread().isVirtual());
+            assertTrue(isVirtual.get());
+        }
+    }
+
+    @Test
+    void executorRunsNoMoreThanMaxConcurrencyTasksAtOnce() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        try (ExecutorService executor = VirtualThreadsHelper.newExecutor(3)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                        running.decrementAndGet();
+                        return null;
+                    })
+                );
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals(3, maxRunning.get());
+    }
+
+    @Test
+    void cancelledTasksDoNotRun() throws Exception {
+        AtomicInteger ran = new AtomicInteger();
+        try (ExecutorService executor = VirtualThreadsHelper.newExecutor(1)) {
+            Future<?> blocker = executor.submit(() -> {
+                Thread.sleep(100);
+                return null;
+            });
+            Future<?> waiting = executor.submit(ran::incrementAndGet);
+            waiting.cancel(true);
+            blocker.get();
+        }
+        assertEquals(0, ran.get());
+    }
+}
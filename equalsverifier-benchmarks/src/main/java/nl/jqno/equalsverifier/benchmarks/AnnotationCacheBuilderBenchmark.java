@@ -0,0 +1,51 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.benchmarks.types.GenericGraph;
+import nl.jqno.equalsverifier.benchmarks.types.JpaEntity;
+import nl.jqno.equalsverifier.benchmarks.types.RecordValue;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Scans classes for the annotations that EqualsVerifier supports, as each verification does. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AnnotationCacheBuilderBenchmark {
+
+    @Benchmark
+    public AnnotationCache record() {
+        return build(RecordValue.class);
+    }
+
+    @Benchmark
+    public AnnotationCache jpaEntity() {
+        return build(JpaEntity.class);
+    }
+
+    @Benchmark
+    public AnnotationCache genericGraph() {
+        return build(GenericGraph.class);
+    }
+
+    private static AnnotationCache build(Class<?> type) {
+        AnnotationCacheBuilder builder = new AnnotationCacheBuilder(
+            SupportedAnnotations.values(),
+            Collections.emptySet()
+        );
+        AnnotationCache cache = new AnnotationCache();
+        builder.build(type, cache);
+        return cache;
+    }
+}
@@ -0,0 +1,50 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that each benchmark reports its allocation
+ * per operation next to its throughput.
+ *
+ * <p>Accepts the same command line options as JMH's own runner. For example, {@code java -jar
+ * target/benchmarks.jar Verify -f 2} runs only the verification benchmarks, in two forks.
+ */
+public final class BenchmarkRunner {
+
+    /** Should not be instantiated. */
+    private BenchmarkRunner() {}
+
+    /**
+     * Entry point.
+     *
+     * @param args JMH command line options.
+     * @throws CommandLineOptionException if the options can't be parsed.
+     * @throws IOException if the help text can't be printed.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args)
+        throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp()) {
+            commandLineOptions.showHelp();
+            return;
+        }
+        if (commandLineOptions.shouldList()) {
+            new Runner(commandLineOptions).list();
+            return;
+        }
+
+        Options options = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
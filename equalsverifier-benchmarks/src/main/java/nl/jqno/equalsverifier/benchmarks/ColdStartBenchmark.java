@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.benchmarks.types.SimpleValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the first verification in a fresh JVM, as it happens in a short-lived test fork. Each
+ * fork runs the verification exactly once, so this includes loading and initializing everything
+ * that EqualsVerifier needs. See {@link StartupProfile} for which classes that involves.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdStartBenchmark {
+
+    @Benchmark
+    public void firstVerification() {
+        EqualsVerifier.forClass(SimpleValue.class).verify();
+    }
+}
@@ -0,0 +1,65 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a main class in a fresh JVM, with the same class path and JVM options as the current one,
+ * and collects what it writes to standard out.
+ */
+final class ForkedJvm {
+
+    /** Should not be instantiated. */
+    private ForkedJvm() {}
+
+    /**
+     * Runs the given main class in a fresh JVM and waits for it to finish.
+     *
+     * @param extraJvmOptions JVM options to add to those of the current JVM.
+     * @param mainClass The class to run.
+     * @param args The arguments to pass to the main class.
+     * @return The lines that the forked JVM wrote to standard out.
+     * @throws IOException if the JVM can't be started.
+     * @throws InterruptedException if interrupted while waiting for the JVM to finish.
+     */
+    static List<String> run(List<String> extraJvmOptions, Class<?> mainClass, String... args)
+        throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(extraJvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(Arrays.asList(args));
+
+        Process process = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        List<String> result = new ArrayList<>();
+        try (
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)
+            )
+        ) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                result.add(line);
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(
+                "Forked JVM running " + mainClass.getSimpleName() + " exited with " + exitCode
+            );
+        }
+        return result;
+    }
+}
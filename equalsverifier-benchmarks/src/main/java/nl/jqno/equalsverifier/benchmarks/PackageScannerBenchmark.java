@@ -0,0 +1,68 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scans a generated package of the given size.
+ *
+ * <p>The classes are loaded by the first scan, so this measures listing the directory, filtering
+ * the class files, and looking up classes that were already loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PackageScannerBenchmark {
+
+    private static final String PACKAGE = "nl.jqno.equalsverifier.benchmarks.generated.scan";
+
+    @Param({ "100", "1000" })
+    public int classCount;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("equalsverifier-benchmark");
+        classLoader = SyntheticClasses.generate(directory, PACKAGE, classCount, 5);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        SyntheticClasses.delete(directory);
+    }
+
+    @Benchmark
+    public List<Class<?>> getClassesIn() {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return PackageScanner.getClassesIn(PACKAGE, null, false);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.benchmarks.types.GenericNode;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates prefab values for deeply nested generic types, whose type parameters have to be resolved
+ * recursively.
+ *
+ * <p>Each operation starts with an empty PrefabValues, like each verification does, so the values
+ * are created from scratch instead of taken from its cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PrefabValuesBenchmark {
+
+    private static final TypeTag NESTED_JAVA_API_TYPES = new TypeTag(
+        Map.class,
+        new TypeTag(String.class),
+        new TypeTag(
+            List.class,
+            new TypeTag(Set.class, new TypeTag(Optional.class, new TypeTag(Integer.class)))
+        )
+    );
+
+    private static final TypeTag NESTED_CUSTOM_TYPES = new TypeTag(
+        GenericNode.class,
+        new TypeTag(
+            Map.class,
+            new TypeTag(String.class),
+            new TypeTag(GenericNode.class, new TypeTag(List.class, new TypeTag(Long.class)))
+        )
+    );
+
+    private FactoryCache factoryCache;
+
+    @Setup
+    public void setUp() {
+        factoryCache = JavaApiPrefabValues.build();
+    }
+
+    @Benchmark
+    public Tuple<?> nestedJavaApiTypes() {
+        return new PrefabValues(factoryCache).giveTuple(NESTED_JAVA_API_TYPES);
+    }
+
+    @Benchmark
+    public Tuple<?> nestedCustomTypes() {
+        return new PrefabValues(factoryCache).giveTuple(NESTED_CUSTOM_TYPES);
+    }
+}
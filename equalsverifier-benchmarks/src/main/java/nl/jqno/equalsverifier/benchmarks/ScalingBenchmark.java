@@ -0,0 +1,326 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.benchmarks.SyntheticClasses.Shape;
+
+/**
+ * Measures how {@code forPackage(...).report()} scales with the size and the shape of the package.
+ *
+ * <p>For every combination of the given class counts, field counts, inheritance depths, generics
+ * and annotation densities, a package is generated with {@link SyntheticClasses}, and verified in
+ * a fresh JVM, so that each measurement starts cold and the peak heap and metaspace usage of one
+ * measurement don't carry over into the next. The forked JVMs get the same JVM options as this
+ * one, so run it with a large enough {@code -Xmx} for the largest package.
+ *
+ * <p>The result is a series with one row per combination, in CSV or JSON. Run it with:
+ *
+ * <pre>
+ * java -cp benchmarks.jar nl.jqno.equalsverifier.benchmarks.ScalingBenchmark \
+ *     --classes 100,1000,10000,50000 --fields 5,20 --format csv --output scaling.csv
+ * </pre>
+ *
+ * <p>Options, each of which takes a comma-separated list of values:
+ *
+ * <ul>
+ *   <li>{@code --classes}: the number of classes in the package. Default: 100 up to 50,000.
+ *   <li>{@code --fields}: the number of fields per class. Default: 5.
+ *   <li>{@code --depth}: the number of superclasses per class. Default: 0.
+ *   <li>{@code --generics}: whether the fields have nested generic types. Default: false.
+ *   <li>{@code --annotation-density}: the fraction of fields that have an annotation. Default: 0.
+ * </ul>
+ *
+ * <p>Furthermore, {@code --format} is {@code csv} or {@code json}, and {@code --output} is the
+ * file to write the series to. Without it, the series is written to standard out.
+ */
+public final class ScalingBenchmark {
+
+    private static final String PACKAGE = "nl.jqno.equalsverifier.benchmarks.generated.scaling";
+    private static final String MEASURE = "--measure";
+    private static final String METASPACE = "Metaspace";
+    private static final String CSV_HEADER =
+        "classes,fields,inheritanceDepth,generics,annotationDensity,verified,failures," +
+        "generationMillis,reportMillis,peakHeapBytes,peakMetaspaceBytes";
+
+    /** Should not be instantiated. */
+    private ScalingBenchmark() {}
+
+    /**
+     * Entry point.
+     *
+     * @param args The options, as described above.
+     * @throws IOException if a forked JVM can't be started, or the output can't be written.
+     * @throws InterruptedException if interrupted while waiting for a forked JVM.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && MEASURE.equals(args[0])) {
+            System.out.println(measure(Point.parse(args[1])).toCsv());
+            return;
+        }
+
+        Options options = Options.parse(args);
+        List<Result> results = new ArrayList<>();
+        for (Point point : options.points()) {
+            System.err.println("Measuring " + point.encode() + " ...");
+            results.add(fork(point));
+        }
+
+        String output = options.json ? toJson(results) : toCsv(results);
+        if (options.output == null) {
+            System.out.print(output);
+        } else {
+            Files.writeString(options.output, output);
+        }
+    }
+
+    private static Result fork(Point point) throws IOException, InterruptedException {
+        List<String> output = ForkedJvm.run(
+            List.of(),
+            ScalingBenchmark.class,
+            MEASURE,
+            point.encode()
+        );
+        String lastLine = output
+            .stream()
+            .filter(line -> !line.isBlank())
+            .reduce((first, second) -> second)
+            .orElseThrow(() ->
+                new IllegalStateException("Measuring " + point.encode() + " gave no result")
+            );
+        return Result.parse(lastLine);
+    }
+
+    private static Result measure(Point point) throws IOException {
+        Path directory = Files.createTempDirectory("equalsverifier-scaling");
+        try {
+            long generationStart = System.nanoTime();
+            try (
+                URLClassLoader classLoader = SyntheticClasses.generate(
+                    directory,
+                    PACKAGE,
+                    point.classCount,
+                    point.shape
+                )
+            ) {
+                long generationMillis = millisSince(generationStart);
+                Thread.currentThread().setContextClassLoader(classLoader);
+
+                List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+                System.gc();
+                pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+                long reportStart = System.nanoTime();
+                List<EqualsVerifierReport> reports = EqualsVerifier.forPackage(PACKAGE).report();
+                long reportMillis = millisSince(reportStart);
+
+                long failures = reports.stream().filter(r -> !r.isSuccessful()).count();
+                return new Result(
+                    point,
+                    reports.size(),
+                    failures,
+                    generationMillis,
+                    reportMillis,
+                    peakUsage(pools, p -> p.getType() == MemoryType.HEAP),
+                    peakUsage(pools, p -> METASPACE.equals(p.getName()))
+                );
+            }
+        } finally {
+            SyntheticClasses.delete(directory);
+        }
+    }
+
+    private static long peakUsage(
+        List<MemoryPoolMXBean> pools,
+        Predicate<MemoryPoolMXBean> filter
+    ) {
+        return pools
+            .stream()
+            .filter(filter)
+            .mapToLong(p -> p.getPeakUsage().getUsed())
+            .sum();
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    private static String toCsv(List<Result> results) {
+        StringBuilder result = new StringBuilder(CSV_HEADER).append('\n');
+        for (Result r : results) {
+            result.append(r.toCsv()).append('\n');
+        }
+        return result.toString();
+    }
+
+    private static String toJson(List<Result> results) {
+        return results
+            .stream()
+            .map(Result::toJson)
+            .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+    }
+
+    private static final class Options {
+
+        private List<Integer> classCounts = Arrays.asList(100, 500, 1000, 5000, 10000, 50000);
+        private List<Integer> fieldCounts = List.of(5);
+        private List<Integer> depths = List.of(0);
+        private List<Boolean> generics = List.of(false);
+        private List<Double> annotationDensities = List.of(0.0);
+        private boolean json;
+        private Path output;
+
+        private static Options parse(String[] args) {
+            Options result = new Options();
+            for (int i = 0; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for option " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                    case "--classes" -> result.classCounts = list(value, Integer::valueOf);
+                    case "--fields" -> result.fieldCounts = list(value, Integer::valueOf);
+                    case "--depth" -> result.depths = list(value, Integer::valueOf);
+                    case "--generics" -> result.generics = list(value, Boolean::valueOf);
+                    case "--annotation-density" -> result.annotationDensities =
+                        list(value, Double::valueOf);
+                    case "--format" -> result.json = parseFormat(value);
+                    case "--output" -> result.output = Paths.get(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            return result;
+        }
+
+        private static <T> List<T> list(String value, Function<String, T> parse) {
+            return Arrays.stream(value.split(",")).map(String::trim).map(parse).toList();
+        }
+
+        private static boolean parseFormat(String value) {
+            return switch (value) {
+                case "csv" -> false;
+                case "json" -> true;
+                default -> throw new IllegalArgumentException("Unknown format " + value);
+            };
+        }
+
+        private List<Point> points() {
+            List<Point> result = new ArrayList<>();
+            for (int fields : fieldCounts) {
+                for (int depth : depths) {
+                    for (boolean generic : generics) {
+                        for (double density : annotationDensities) {
+                            Shape shape = new Shape(fields, depth, generic, density);
+                            for (int classes : classCounts) {
+                                result.add(new Point(classes, shape));
+                            }
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Point(int classCount, Shape shape) {
+        private static Point parse(String encoded) {
+            String[] parts = encoded.split(":");
+            return new Point(
+                Integer.parseInt(parts[0]),
+                new Shape(
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    Boolean.parseBoolean(parts[3]),
+                    Double.parseDouble(parts[4])
+                )
+            );
+        }
+
+        private String encode() {
+            return (
+                classCount +
+                ":" +
+                shape.fieldCount() +
+                ":" +
+                shape.inheritanceDepth() +
+                ":" +
+                shape.generics() +
+                ":" +
+                shape.annotationDensity()
+            );
+        }
+    }
+
+    private record Result(
+        Point point,
+        long verified,
+        long failures,
+        long generationMillis,
+        long reportMillis,
+        long peakHeapBytes,
+        long peakMetaspaceBytes
+    ) {
+        private static Result parse(String csv) {
+            String[] parts = csv.split(",");
+            Point point = Point.parse(String.join(":", Arrays.copyOfRange(parts, 0, 5)));
+            return new Result(
+                point,
+                Long.parseLong(parts[5]),
+                Long.parseLong(parts[6]),
+                Long.parseLong(parts[7]),
+                Long.parseLong(parts[8]),
+                Long.parseLong(parts[9]),
+                Long.parseLong(parts[10])
+            );
+        }
+
+        private String toCsv() {
+            return String.join(
+                ",",
+                point.encode().replace(':', ','),
+                Long.toString(verified),
+                Long.toString(failures),
+                Long.toString(generationMillis),
+                Long.toString(reportMillis),
+                Long.toString(peakHeapBytes),
+                Long.toString(peakMetaspaceBytes)
+            );
+        }
+
+        private String toJson() {
+            Shape shape = point.shape;
+            return String.format(
+                Locale.ROOT,
+                "{\"classes\": %d, \"fields\": %d, \"inheritanceDepth\": %d, \"generics\": %b, " +
+                "\"annotationDensity\": %s, \"verified\": %d, \"failures\": %d, " +
+                "\"generationMillis\": %d, \"reportMillis\": %d, \"peakHeapBytes\": %d, " +
+                "\"peakMetaspaceBytes\": %d}",
+                point.classCount,
+                shape.fieldCount(),
+                shape.inheritanceDepth(),
+                shape.generics(),
+                shape.annotationDensity(),
+                verified,
+                failures,
+                generationMillis,
+                reportMillis,
+                peakHeapBytes,
+                peakMetaspaceBytes
+            );
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.benchmarks.types.SimpleValue;
+
+/**
+ * Shows what the first verification in a fresh JVM spends its time on: how long it takes, and
+ * which classes are loaded while it runs, grouped by library and by EqualsVerifier package.
+ *
+ * <p>Each run happens in its own JVM, with class loading logged. Only the classes that are loaded
+ * during the verification itself are counted, not those of the JVM's own startup. Run it with:
+ *
+ * <pre>
+ * java -cp benchmarks.jar nl.jqno.equalsverifier.benchmarks.StartupProfile [runs]
+ * </pre>
+ */
+public final class StartupProfile {
+
+    private static final String MEASURE = "--measure";
+    private static final String BEGIN = "### begin";
+    private static final String END = "### end ";
+    private static final String EQUALSVERIFIER = "nl.jqno.equalsverifier.";
+    private static final Pattern CLASS_LOAD = Pattern.compile("\\[class,load\\] (\\S+) source:");
+    private static final int DEFAULT_RUNS = 5;
+
+    /** Should not be instantiated. */
+    private StartupProfile() {}
+
+    /**
+     * Entry point.
+     *
+     * @param args Optionally, the number of runs. Defaults to 5.
+     * @throws IOException if a forked JVM can't be started.
+     * @throws InterruptedException if interrupted while waiting for a forked JVM.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 1 && MEASURE.equals(args[0])) {
+            measure();
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        List<Long> millis = new ArrayList<>();
+        List<String> loadedClasses = List.of();
+        for (int i = 0; i < runs; i++) {
+            List<String> output = ForkedJvm.run(
+                List.of("-Xlog:class+load=info:stdout"),
+                StartupProfile.class,
+                MEASURE
+            );
+            loadedClasses = classesLoadedDuringVerification(output);
+            millis.add(verificationMillis(output));
+        }
+        Collections.sort(millis);
+
+        System.out.println("Time to first verification, median of " + runs + " runs:");
+        System.out.println("  " + millis.get(millis.size() / 2) + " ms");
+        System.out.println();
+        System.out.println("Classes loaded during the first verification:");
+        print(countBy(loadedClasses, StartupProfile::library));
+        System.out.println();
+        System.out.println("EqualsVerifier classes, by package:");
+        print(
+            countBy(
+                loadedClasses.stream().filter(c -> c.startsWith(EQUALSVERIFIER)).toList(),
+                StartupProfile::packageOf
+            )
+        );
+    }
+
+    private static void measure() {
+        System.out.println(BEGIN);
+        long start = System.nanoTime();
+        EqualsVerifier.forClass(SimpleValue.class).verify();
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        System.out.println(END + millis);
+    }
+
+    private static List<String> classesLoadedDuringVerification(List<String> output) {
+        List<String> result = new ArrayList<>();
+        boolean measuring = false;
+        for (String line : output) {
+            if (line.equals(BEGIN)) {
+                measuring = true;
+            } else if (line.startsWith(END)) {
+                measuring = false;
+            } else if (measuring) {
+                Matcher m = CLASS_LOAD.matcher(line);
+                if (m.find()) {
+                    result.add(m.group(1));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long verificationMillis(List<String> output) {
+        return output
+            .stream()
+            .filter(line -> line.startsWith(END))
+            .map(line -> Long.parseLong(line.substring(END.length())))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("The verification didn't finish"));
+    }
+
+    private static String library(String className) {
+        if (className.startsWith(EQUALSVERIFIER)) {
+            return "EqualsVerifier";
+        }
+        if (className.startsWith("net.bytebuddy.")) {
+            return "ByteBuddy";
+        }
+        if (className.startsWith("org.objenesis.")) {
+            return "Objenesis";
+        }
+        if (
+            className.startsWith("java.") ||
+            className.startsWith("javax.") ||
+            className.startsWith("jdk.") ||
+            className.startsWith("sun.") ||
+            className.startsWith("com.sun.")
+        ) {
+            return "JDK";
+        }
+        return "other";
+    }
+
+    private static String packageOf(String className) {
+        int dot = className.lastIndexOf('.');
+        return dot < 0 ? "" : className.substring(0, dot);
+    }
+
+    private static Map<String, Integer> countBy(
+        List<String> classNames,
+        Function<String, String> key
+    ) {
+        Map<String, Integer> result = new TreeMap<>();
+        for (String className : classNames) {
+            result.merge(key.apply(className), 1, Integer::sum);
+        }
+        return result;
+    }
+
+    private static void print(Map<String, Integer> counts) {
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            System.out.printf("  %6d  %s%n", entry.getValue(), entry.getKey());
+            total += entry.getValue();
+        }
+        System.out.printf("  %6d  total%n", total);
+    }
+}
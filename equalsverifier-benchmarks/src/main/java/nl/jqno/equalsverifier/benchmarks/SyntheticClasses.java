@@ -0,0 +1,246 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.EqualsMethod;
+import net.bytebuddy.implementation.HashCodeMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+import nl.jqno.equalsverifier.benchmarks.types.NonNull;
+
+/**
+ * Generates value classes with ByteBuddy and writes them to a directory, so that they can be
+ * verified one by one, or found by scanning their package.
+ *
+ * <p>Each class is final, has the given number of private final fields of various types, and has
+ * an equals and hashCode that use all of them, so EqualsVerifier accepts it without any
+ * configuration. The {@link Shape} determines how the classes look.
+ */
+public final class SyntheticClasses {
+
+    private static final AnnotationDescription NON_NULL = AnnotationDescription.Builder
+        .ofType(NonNull.class)
+        .build();
+
+    private static final TypeDefinition[] FIELD_TYPES = {
+        type(int.class),
+        type(String.class),
+        type(long.class),
+        type(boolean.class),
+        parameterized(List.class, type(String.class)),
+    };
+
+    private static final TypeDefinition[] GENERIC_FIELD_TYPES = {
+        parameterized(List.class, type(String.class)),
+        parameterized(
+            Map.class,
+            type(String.class),
+            parameterized(List.class, type(Integer.class))
+        ),
+        parameterized(Optional.class, parameterized(Set.class, type(String.class))),
+    };
+
+    /**
+     * Describes what the generated classes look like.
+     *
+     * @param fieldCount The number of fields each class declares.
+     * @param inheritanceDepth The number of abstract classes between each class and Object. They
+     *     are shared by all classes, live in the sub-package {@code base}, and have no fields.
+     * @param generics Whether the fields have nested generic types instead of mostly simple ones.
+     * @param annotationDensity The fraction of fields, between 0 and 1, that are marked {@link
+     *     NonNull}.
+     */
+    public record Shape(
+        int fieldCount,
+        int inheritanceDepth,
+        boolean generics,
+        double annotationDensity
+    ) {
+        /**
+         * @param fieldCount The number of fields each class declares.
+         * @return A shape for classes without superclasses, generics or annotations.
+         */
+        public static Shape of(int fieldCount) {
+            return new Shape(fieldCount, 0, false, 0.0);
+        }
+    }
+
+    /** Should not be instantiated. */
+    private SyntheticClasses() {}
+
+    /**
+     * Generates classes named {@code Value0}, {@code Value1}, etc.
+     *
+     * @param directory The root directory of the class files.
+     * @param packageName The package to put the classes in.
+     * @param classCount The number of classes to generate.
+     * @param fieldCount The number of fields each class gets.
+     * @return A ClassLoader that can load the generated classes.
+     */
+    public static URLClassLoader generate(
+        Path directory,
+        String packageName,
+        int classCount,
+        int fieldCount
+    ) {
+        return generate(directory, packageName, classCount, Shape.of(fieldCount));
+    }
+
+    /**
+     * Generates classes named {@code Value0}, {@code Value1}, etc.
+     *
+     * @param directory The root directory of the class files.
+     * @param packageName The package to put the classes in.
+     * @param classCount The number of classes to generate.
+     * @param shape What the classes look like.
+     * @return A ClassLoader that can load the generated classes.
+     */
+    public static URLClassLoader generate(
+        Path directory,
+        String packageName,
+        int classCount,
+        Shape shape
+    ) {
+        TypeDefinition superclass = type(Object.class);
+        for (int i = 0; i < shape.inheritanceDepth(); i++) {
+            DynamicType.Unloaded<?> base = makeBase(packageName + ".base.Base" + i, superclass);
+            save(directory, base);
+            superclass = base.getTypeDescription();
+        }
+        for (int i = 0; i < classCount; i++) {
+            save(directory, make(className(packageName, i), superclass, shape));
+        }
+        return classLoaderFor(directory);
+    }
+
+    /**
+     * Loads one of the generated classes.
+     *
+     * @param classLoader The ClassLoader returned by {@link #generate(Path, String, int, int)}.
+     * @param packageName The package that contains the classes.
+     * @param index The number of the class.
+     * @return The class.
+     */
+    public static Class<?> load(ClassLoader classLoader, String packageName, int index) {
+        try {
+            return Class.forName(className(packageName, index), false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Deletes a directory that contains generated classes.
+     *
+     * @param directory The directory to delete, including its contents.
+     */
+    public static void delete(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(SyntheticClasses::deleteFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static DynamicType.Unloaded<?> makeBase(String name, TypeDefinition superclass) {
+        return new ByteBuddy()
+            .subclass(superclass)
+            .name(name)
+            .modifiers(Visibility.PUBLIC, TypeManifestation.ABSTRACT)
+            .make();
+    }
+
+    private static DynamicType.Unloaded<?> make(
+        String name,
+        TypeDefinition superclass,
+        Shape shape
+    ) {
+        TypeDefinition[] fieldTypes = shape.generics() ? GENERIC_FIELD_TYPES : FIELD_TYPES;
+        DynamicType.Builder<?> builder = new ByteBuddy()
+            .subclass(superclass)
+            .name(name)
+            .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL);
+        for (int i = 0; i < shape.fieldCount(); i++) {
+            DynamicType.Builder.FieldDefinition.Optional.Valuable<?> field = builder.defineField(
+                "field" + i,
+                fieldTypes[i % fieldTypes.length],
+                Visibility.PRIVATE,
+                FieldManifestation.FINAL
+            );
+            builder = isAnnotated(i, shape.annotationDensity())
+                ? field.annotateField(NON_NULL)
+                : field;
+        }
+        return builder
+            .method(ElementMatchers.isEquals())
+            .intercept(EqualsMethod.isolated())
+            .method(ElementMatchers.isHashCode())
+            .intercept(HashCodeMethod.usingDefaultOffset())
+            .make();
+    }
+
+    /*
+     * Spreads the annotated fields evenly: field i is annotated when the running total of the
+     * density passes a whole number.
+     */
+    private static boolean isAnnotated(int index, double density) {
+        return Math.floor((index + 1) * density) > Math.floor(index * density);
+    }
+
+    private static String className(String packageName, int index) {
+        return packageName + ".Value" + index;
+    }
+
+    private static void save(Path directory, DynamicType.Unloaded<?> type) {
+        try {
+            type.saveIn(directory.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static URLClassLoader classLoaderFor(Path directory) {
+        try {
+            URL[] urls = { directory.toUri().toURL() };
+            return new URLClassLoader(urls, SyntheticClasses.class.getClassLoader());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.delete(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TypeDefinition type(Class<?> type) {
+        return TypeDescription.ForLoadedType.of(type);
+    }
+
+    private static TypeDefinition parameterized(Class<?> raw, TypeDefinition... parameters) {
+        return TypeDescription.Generic.Builder
+            .parameterizedType(TypeDescription.ForLoadedType.of(raw), parameters)
+            .build();
+    }
+}
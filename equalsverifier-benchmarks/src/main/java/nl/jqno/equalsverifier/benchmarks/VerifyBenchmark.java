@@ -0,0 +1,38 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.benchmarks.types.GenericGraph;
+import nl.jqno.equalsverifier.benchmarks.types.JpaEntity;
+import nl.jqno.equalsverifier.benchmarks.types.RecordValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Verifies the kinds of classes that take EqualsVerifier down its more specialized paths. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VerifyBenchmark {
+
+    @Benchmark
+    public void record() {
+        EqualsVerifier.forClass(RecordValue.class).verify();
+    }
+
+    @Benchmark
+    public void jpaEntity() {
+        EqualsVerifier.forClass(JpaEntity.class).verify();
+    }
+
+    @Benchmark
+    public void genericGraph() {
+        EqualsVerifier.forClass(GenericGraph.class).verify();
+    }
+}
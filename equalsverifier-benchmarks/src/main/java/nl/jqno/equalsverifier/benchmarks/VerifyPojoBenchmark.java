@@ -0,0 +1,59 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Verifies plain value classes with an increasing number of fields. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VerifyPojoBenchmark {
+
+    private static final String PACKAGE_PREFIX = "nl.jqno.equalsverifier.benchmarks.generated.pojo";
+
+    @Param({ "5", "50", "200" })
+    public int fieldCount;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private Class<?> type;
+
+    @Setup
+    public void setUp() throws IOException {
+        // EqualsVerifier caches some things by class name, so each size gets its own package.
+        String packageName = PACKAGE_PREFIX + fieldCount;
+        directory = Files.createTempDirectory("equalsverifier-benchmark");
+        classLoader = SyntheticClasses.generate(directory, packageName, 1, fieldCount);
+        type = SyntheticClasses.load(classLoader, packageName, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+        SyntheticClasses.delete(directory);
+    }
+
+    @Benchmark
+    public void verify() {
+        EqualsVerifier.forClass(type).verify();
+    }
+}
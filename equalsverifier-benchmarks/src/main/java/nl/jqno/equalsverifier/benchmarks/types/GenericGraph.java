@@ -0,0 +1,42 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+public final class GenericGraph {
+
+    private final Map<String, List<Set<Optional<Integer>>>> nested;
+    private final Map<GenericNode<String>, List<GenericNode<Integer>>> edges;
+    private final GenericNode<Map<String, GenericNode<List<Long>>>> root;
+
+    public GenericGraph(
+        Map<String, List<Set<Optional<Integer>>>> nested,
+        Map<GenericNode<String>, List<GenericNode<Integer>>> edges,
+        GenericNode<Map<String, GenericNode<List<Long>>>> root
+    ) {
+        this.nested = nested;
+        this.edges = edges;
+        this.root = root;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericGraph)) {
+            return false;
+        }
+        GenericGraph other = (GenericGraph) obj;
+        return (
+            Objects.equals(nested, other.nested) &&
+            Objects.equals(edges, other.edges) &&
+            Objects.equals(root, other.root)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nested, edges, root);
+    }
+}
@@ -0,0 +1,29 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class GenericNode<T> {
+
+    private final T value;
+    private final List<T> history;
+
+    public GenericNode(T value, List<T> history) {
+        this.value = value;
+        this.history = history;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericNode)) {
+            return false;
+        }
+        GenericNode<?> other = (GenericNode<?>) obj;
+        return Objects.equals(value, other.value) && Objects.equals(history, other.history);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, history);
+    }
+}
@@ -0,0 +1,51 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+public class JpaEntity {
+
+    @Id
+    private long id;
+
+    private String name;
+    private LocalDate birthDate;
+    private int score;
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof JpaEntity)) {
+            return false;
+        }
+        JpaEntity other = (JpaEntity) obj;
+        return (
+            Objects.equals(getName(), other.getName()) &&
+            Objects.equals(getBirthDate(), other.getBirthDate()) &&
+            getScore() == other.getScore()
+        );
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(getName(), getBirthDate(), getScore());
+    }
+}
@@ -0,0 +1,11 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Marks fields of generated classes, so EqualsVerifier has annotations to scan. */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface NonNull {}
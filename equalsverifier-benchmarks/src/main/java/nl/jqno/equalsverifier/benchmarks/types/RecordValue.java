@@ -0,0 +1,6 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record RecordValue(int id, String name, LocalDate date, List<String> tags, double amount) {}
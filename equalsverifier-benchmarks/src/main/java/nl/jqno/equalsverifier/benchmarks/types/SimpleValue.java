@@ -0,0 +1,28 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+public final class SimpleValue {
+
+    private final int id;
+    private final String name;
+
+    public SimpleValue(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SimpleValue)) {
+            return false;
+        }
+        SimpleValue other = (SimpleValue) obj;
+        return id == other.id && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+}
@@ -9,6 +9,9 @@ import nl.jqno.equalsverifier.api.SingleTypeEqualsVerifierApi;
  * <p>When the run was successful, should contain an empty message and a null cause. When the run
  * was unsuccessful, the message is identical to the message of the exception that {@link
  * SingleTypeEqualsVerifierApi#verify()} would throw, and the cause would be identical to its cause.
+ *
+ * <p>In both cases, the report contains {@link VerificationStatistics} that show where the time of
+ * the run went.
  */
 public final class EqualsVerifierReport {
 
@@ -16,6 +19,7 @@ public final class EqualsVerifierReport {
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final VerificationStatistics statistics;
 
     /**
      * Factory method for a successful run of {@code EqualsVerifier}.
@@ -25,7 +29,19 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport success(Class<?> type) {
-        return new EqualsVerifierReport(type, true, "", null);
+        return success(type, VerificationStatistics.empty());
+    }
+
+    /**
+     * Factory method for a successful run of {@code EqualsVerifier}.
+     *
+     * @param type The class that was tested.
+     * @param statistics Statistics about the run.
+     * @return an {@code EqualsVerifierReport} representing the successful result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport success(Class<?> type, VerificationStatistics statistics) {
+        return new EqualsVerifierReport(type, true, "", null, statistics);
     }
 
     /**
@@ -38,7 +54,26 @@ public final class EqualsVerifierReport {
      *     EqualsVerifier}.
      */
     public static EqualsVerifierReport failure(Class<?> type, String message, Throwable cause) {
-        return new EqualsVerifierReport(type, false, message, cause);
+        return failure(type, message, cause, VerificationStatistics.empty());
+    }
+
+    /**
+     * Factory method for an unsuccessful run of {@code EqualsVerifier}.
+     *
+     * @param type The class that was tested.
+     * @param message Error message when the run is unsuccessful.
+     * @param cause Exception when the run is unsuccessful.
+     * @param statistics Statistics about the run.
+     * @return an {@code EqualsVerifierReport} representing the failed result of a run of {@code
+     *     EqualsVerifier}.
+     */
+    public static EqualsVerifierReport failure(
+        Class<?> type,
+        String message,
+        Throwable cause,
+        VerificationStatistics statistics
+    ) {
+        return new EqualsVerifierReport(type, false, message, cause, statistics);
     }
 
     /** Private constructor. Use {@link #SUCCESS} or {@link #failure(String, Throwable)} instead. */
@@ -46,12 +81,14 @@ public final class EqualsVerifierReport {
         Class<?> type,
         boolean successful,
         String message,
-        Throwable cause
+        Throwable cause,
+        VerificationStatistics statistics
     ) {
         this.type = type;
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.statistics = statistics;
     }
 
     /** @return the class that was tested. */
@@ -89,4 +126,12 @@ public final class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * @return statistics about the run, such as the time taken by each checker and the number of
+     *     objects that were instantiated.
+     */
+    public VerificationStatistics getStatistics() {
+        return statistics;
+    }
 }
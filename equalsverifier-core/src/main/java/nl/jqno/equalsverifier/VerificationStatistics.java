@@ -0,0 +1,127 @@
+package nl.jqno.equalsverifier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Describes where the time of an {@link nl.jqno.equalsverifier.EqualsVerifier} run went, and how
+ * much work it did.
+ *
+ * <p>The durations are measured per phase of the verification: building the configuration, and
+ * each of the checkers, in the order in which they ran. If the verification failed, the phases
+ * after the one that failed are missing. Time spent creating prefabricated values is included in
+ * the phase that needed them.
+ */
+public final class VerificationStatistics {
+
+    private static final VerificationStatistics EMPTY = new VerificationStatistics(
+        Collections.emptyMap(),
+        0,
+        0,
+        0,
+        0,
+        0
+    );
+
+    private final Map<String, Duration> durations;
+    private final long objectsInstantiated;
+    private final long fieldsWritten;
+    private final long prefabCacheHits;
+    private final long prefabCacheMisses;
+    private final long dynamicSubclassesGenerated;
+
+    /**
+     * Constructor.
+     *
+     * @param durations The time taken by each phase of the verification, in the order in which
+     *     they ran.
+     * @param objectsInstantiated The number of objects that were instantiated.
+     * @param fieldsWritten The number of times a field was written reflectively.
+     * @param prefabCacheHits The number of times a prefabricated value was taken from the cache.
+     * @param prefabCacheMisses The number of times a prefabricated value had to be created.
+     * @param dynamicSubclassesGenerated The number of subclasses that were generated.
+     */
+    public VerificationStatistics(
+        Map<String, Duration> durations,
+        long objectsInstantiated,
+        long fieldsWritten,
+        long prefabCacheHits,
+        long prefabCacheMisses,
+        long dynamicSubclassesGenerated
+    ) {
+        this.durations = Collections.unmodifiableMap(new LinkedHashMap<>(durations));
+        this.objectsInstantiated = objectsInstantiated;
+        this.fieldsWritten = fieldsWritten;
+        this.prefabCacheHits = prefabCacheHits;
+        this.prefabCacheMisses = prefabCacheMisses;
+        this.dynamicSubclassesGenerated = dynamicSubclassesGenerated;
+    }
+
+    /** @return statistics for a run that did no work. */
+    public static VerificationStatistics empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the time taken by each phase of the verification, keyed by the name of the phase, in
+     *     the order in which they ran.
+     */
+    public Map<String, Duration> getDurations() {
+        return durations;
+    }
+
+    /** @return the sum of the durations of all phases. */
+    public Duration getTotalDuration() {
+        return durations.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /** @return the number of objects that were instantiated. */
+    public long getObjectsInstantiated() {
+        return objectsInstantiated;
+    }
+
+    /** @return the number of times a field was written reflectively. */
+    public long getFieldsWritten() {
+        return fieldsWritten;
+    }
+
+    /** @return the number of times a prefabricated value was taken from the cache. */
+    public long getPrefabCacheHits() {
+        return prefabCacheHits;
+    }
+
+    /** @return the number of times a prefabricated value had to be created. */
+    public long getPrefabCacheMisses() {
+        return prefabCacheMisses;
+    }
+
+    /**
+     * @return the number of subclasses that were generated. Subclasses that were already generated
+     *     for an earlier verification are not counted.
+     */
+    public long getDynamicSubclassesGenerated() {
+        return dynamicSubclassesGenerated;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return (
+            "VerificationStatistics[durations=" +
+            durations +
+            ", objectsInstantiated=" +
+            objectsInstantiated +
+            ", fieldsWritten=" +
+            fieldsWritten +
+            ", prefabCacheHits=" +
+            prefabCacheHits +
+            ", prefabCacheMisses=" +
+            prefabCacheMisses +
+            ", dynamicSubclassesGenerated=" +
+            dynamicSubclassesGenerated +
+            "]"
+        );
+    }
+}
@@ -1,21 +1,43 @@
 package nl.jqno.equalsverifier.api;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import nl.jqno.equalsverifier.ConfiguredEqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
+import nl.jqno.equalsverifier.internal.util.Caches;
+import nl.jqno.equalsverifier.internal.util.CompletionIterator;
 import nl.jqno.equalsverifier.internal.util.ErrorMessage;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
-import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
 import nl.jqno.equalsverifier.internal.util.Validations;
+import nl.jqno.equalsverifier.internal.util.VerificationSession;
+import nl.jqno.equalsverifier.internal.util.VirtualThreadsHelper;
+import nl.jqno.equalsverifier.internal.util.WorkerThreadFactory;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test for several types at once with a fluent API.
@@ -24,6 +46,11 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
 
     private final List<Class<?>> types;
     private final ConfiguredEqualsVerifier ev;
+    private int parallelism = 1;
+    private ExecutorService executor = null;
+    private boolean virtualThreads = false;
+    private ResultCache resultCache = null;
+    private int maxFailures = Integer.MAX_VALUE;
 
     public MultipleTypeEqualsVerifierApi(List<Class<?>> types, ConfiguredEqualsVerifier ev) {
         this.types = new ArrayList<>(types);
@@ -83,7 +110,7 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
     /** {@inheritDoc} */
     @Override
     public MultipleTypeEqualsVerifierApi withResetCaches() {
-        ObjenesisWrapper.reset();
+        Caches.reset();
         return this;
     }
 
@@ -116,6 +143,120 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Verifies the types concurrently, on a thread pool with the given number of threads that is
+     * created for the duration of the verification.
+     *
+     * <p>The order of the reports, and of the failures reported by {@link #verify()}, is the same
+     * as when the types are verified one after another.
+     *
+     * <p>Each type gets its own instances of EqualsVerifier's built-in prefab values, but values
+     * passed to {@code withPrefabValues} and {@code withGenericPrefabValues} are used by all
+     * threads, so they must be safe to use concurrently.
+     *
+     * @param parallelism The number of types to verify at the same time. 1 means the types are
+     *     verified one after another on the calling thread, which is the default.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi withParallelism(int parallelism) {
+        Validations.validateParallelism(parallelism);
+        this.parallelism = parallelism;
+        this.executor = null;
+        this.virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * Verifies the types concurrently, on the given {@link ExecutorService}.
+     *
+     * <p>The order of the reports, and of the failures reported by {@link #verify()}, is the same
+     * as when the types are verified one after another. EqualsVerifier does not shut down the
+     * executor.
+     *
+     * <p>Each type gets its own instances of EqualsVerifier's built-in prefab values, but values
+     * passed to {@code withPrefabValues} and {@code withGenericPrefabValues} are used by all
+     * threads, so they must be safe to use concurrently.
+     *
+     * @param executor The executor on which to verify the types.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi withExecutor(ExecutorService executor) {
+        Validations.validateNotNull(executor, "executor is null.");
+        this.executor = executor;
+        this.parallelism = 1;
+        this.virtualThreads = false;
+        return this;
+    }
+
+    /**
+     * Verifies each type on its own virtual thread, with at most {@code maxConcurrency} types being
+     * verified at the same time.
+     *
+     * <p>Virtual threads are available on Java 21 and up. On older versions of Java, the types are
+     * verified on a thread pool with {@code maxConcurrency} platform threads instead.
+     *
+     * <p>The order of the reports, and of the failures reported by {@link #verify()}, is the same
+     * as when the types are verified one after another. As with {@link #withParallelism(int)},
+     * values passed to {@code withPrefabValues} are shared between threads.
+     *
+     * @param maxConcurrency The maximum number of types to verify at the same time.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi withVirtualThreads(int maxConcurrency) {
+        Validations.validateParallelism(maxConcurrency);
+        this.parallelism = maxConcurrency;
+        this.executor = null;
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * Remembers successful verifications in the given directory, and skips the verification of
+     * each type that was verified successfully before, with the same configuration, and that
+     * hasn't changed since.
+     *
+     * @param directory The directory in which to remember successful verifications.
+     * @param maxEntries The maximum number of verifications to remember.
+     * @return {@code this}, for easy method chaining.
+     * @see SingleTypeEqualsVerifierApi#withResultCache(Path, int)
+     */
+    public MultipleTypeEqualsVerifierApi withResultCache(Path directory, int maxEntries) {
+        Validations.validateResultCache(directory, maxEntries);
+        this.resultCache = new ResultCache(directory, maxEntries);
+        return this;
+    }
+
+    /**
+     * Makes {@link #verify()} stop as soon as one type fails.
+     *
+     * <p>This is equivalent to {@code maxFailures(1)}.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see #maxFailures(int)
+     */
+    public MultipleTypeEqualsVerifierApi failFast() {
+        return maxFailures(1);
+    }
+
+    /**
+     * Makes {@link #verify()} stop as soon as the given number of types have failed. Types that
+     * haven't been verified yet are skipped, and verifications that are running concurrently are
+     * cancelled.
+     *
+     * <p>The error message has the same format as when all types are verified, and lists the
+     * failures in the order of the types. Which types are reported can depend on timing when the
+     * types are verified concurrently. {@link #report()} and {@link #reportAsStream()} are not
+     * affected.
+     *
+     * @param maxFailures The number of failures after which to stop.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi maxFailures(int maxFailures) {
+        Validations.validateMaxFailures(maxFailures);
+        this.maxFailures = maxFailures;
+        return this;
+    }
+
     private void removeTypes(List<Class<?>> typesToRemove) {
         Validations.validateTypesAreKnown(typesToRemove, types);
         types.removeAll(typesToRemove);
@@ -129,10 +270,7 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      *     preconditions do not hold.
      */
     public void verify() {
-        List<EqualsVerifierReport> failures = report()
-            .stream()
-            .filter(r -> !r.isSuccessful())
-            .collect(Collectors.toList());
+        List<EqualsVerifierReport> failures = findFailures();
         if (failures.isEmpty()) {
             return;
         }
@@ -152,6 +290,25 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         throw new AssertionError(messages);
     }
 
+    private List<EqualsVerifierReport> findFailures() {
+        if (maxFailures == Integer.MAX_VALUE) {
+            return report()
+                .stream()
+                .filter(r -> !r.isSuccessful())
+                .collect(Collectors.toList());
+        }
+
+        List<EqualsVerifierReport> result;
+        try (Stream<EqualsVerifierReport> reports = reportAsStream()) {
+            result = reports
+                .filter(r -> !r.isSuccessful())
+                .limit(maxFailures)
+                .collect(Collectors.toList());
+        }
+        result.sort(Comparator.comparingInt(r -> types.indexOf(r.getType())));
+        return result;
+    }
+
     /**
      * Performs the verifications of the contracts for {@code equals} and {@code hashCode} and
      * returns a List of {@link EqualsVerifierReport} with the results of the verifications.
@@ -160,6 +317,144 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      *     and whether {@link EqualsVerifier}'s preconditions hold.
      */
     public List<EqualsVerifierReport> report() {
-        return types.stream().map(t -> ev.forClass(t).report(false)).collect(Collectors.toList());
+        VerificationSession session = new VerificationSession();
+        if (executor != null) {
+            return reportConcurrently(session, executor);
+        }
+        if (virtualThreads || parallelism > 1) {
+            ExecutorService pool = newPool();
+            try {
+                return reportConcurrently(session, pool);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return types.stream().map(t -> report(t, session)).collect(Collectors.toList());
+    }
+
+    /**
+     * Performs the verifications of the contracts for {@code equals} and {@code hashCode} and
+     * returns a Stream that emits the {@link EqualsVerifierReport} of each type as soon as its
+     * verification finishes.
+     *
+     * <p>When the types are verified one after another, which is the default, each type is verified
+     * only when the Stream reaches it, in the order of the types, so a short-circuiting operation
+     * stops the verification early. When they are verified concurrently, the reports are emitted in
+     * the order in which the verifications finish, and closing the Stream cancels the
+     * verifications that haven't finished yet.
+     *
+     * <p>Reports that have been consumed are not retained, so they can be garbage collected while
+     * the remaining types are verified. Use this Stream in a try-with-resources block to make sure
+     * that any threads are released when it isn't consumed completely.
+     *
+     * @return A Stream of {@link EqualsVerifierReport} that indicate whether the contracts are met
+     *     and whether {@link EqualsVerifier}'s preconditions hold.
+     */
+    public Stream<EqualsVerifierReport> reportAsStream() {
+        VerificationSession session = new VerificationSession();
+        List<Class<?>> typesToVerify = new ArrayList<>(types);
+        if (executor != null) {
+            return streamConcurrently(typesToVerify, session, executor, () -> {});
+        }
+        if (virtualThreads || parallelism > 1) {
+            ExecutorService pool = newPool();
+            return streamConcurrently(typesToVerify, session, pool, pool::shutdownNow);
+        }
+        return typesToVerify.stream().map(t -> report(t, session));
+    }
+
+    /**
+     * Performs the verifications of the contracts for {@code equals} and {@code hashCode} and
+     * passes the {@link EqualsVerifierReport} of each type to the given listener as soon as its
+     * verification finishes, in the same order as {@link #reportAsStream()}.
+     *
+     * @param listener Receives the reports. It is always called on the calling thread.
+     */
+    public void report(Consumer<EqualsVerifierReport> listener) {
+        try (Stream<EqualsVerifierReport> reports = reportAsStream()) {
+            reports.forEach(listener);
+        }
+    }
+
+    private ExecutorService newPool() {
+        return virtualThreads
+            ? VirtualThreadsHelper.newExecutor(parallelism)
+            : Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+    }
+
+    private List<EqualsVerifierReport> reportConcurrently(
+        VerificationSession session,
+        ExecutorService pool
+    ) {
+        List<Future<EqualsVerifierReport>> futures = new ArrayList<>();
+        for (Class<?> type : types) {
+            futures.add(pool.submit(() -> report(type, session)));
+        }
+
+        List<EqualsVerifierReport> result = new ArrayList<>();
+        try {
+            for (Future<EqualsVerifierReport> future : futures) {
+                result.add(await(future));
+            }
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+        return result;
+    }
+
+    private Stream<EqualsVerifierReport> streamConcurrently(
+        List<Class<?>> typesToVerify,
+        VerificationSession session,
+        ExecutorService pool,
+        Runnable cleanup
+    ) {
+        CompletionService<EqualsVerifierReport> completion = new ExecutorCompletionService<>(pool);
+        // Only the futures that haven't been taken yet, so finished reports can be collected.
+        Set<Future<EqualsVerifierReport>> pending = ConcurrentHashMap.newKeySet();
+        Runnable close = () -> {
+            pending.forEach(f -> f.cancel(true));
+            cleanup.run();
+        };
+        try {
+            for (Class<?> type : typesToVerify) {
+                pending.add(completion.submit(() -> report(type, session)));
+            }
+        } catch (RuntimeException e) {
+            close.run();
+            throw e;
+        }
+
+        int count = pending.size();
+        Iterator<EqualsVerifierReport> iterator = new CompletionIterator<>(
+            completion,
+            pending,
+            MultipleTypeEqualsVerifierApi::await,
+            close
+        );
+        Spliterator<EqualsVerifierReport> spliterator = Spliterators.spliterator(
+            iterator,
+            count,
+            Spliterator.NONNULL
+        );
+        return StreamSupport.stream(spliterator, false).onClose(close);
+    }
+
+    private static EqualsVerifierReport await(Future<EqualsVerifierReport> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying types.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EqualsVerifierInternalBugException("Verification failed unexpectedly.", cause);
+        }
+    }
+
+    private EqualsVerifierReport report(Class<?> type, VerificationSession session) {
+        return ev.forClass(type).inSession(session).usingResultCache(resultCache).report(false);
     }
 }
@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier.api;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -7,6 +8,7 @@ import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
@@ -25,14 +27,19 @@ import nl.jqno.equalsverifier.internal.checkers.RecordChecker;
 import nl.jqno.equalsverifier.internal.checkers.SignatureChecker;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
+import nl.jqno.equalsverifier.internal.util.Caches;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.ErrorMessage;
 import nl.jqno.equalsverifier.internal.util.FieldNameExtractor;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderHelper;
 import nl.jqno.equalsverifier.internal.util.Formatter;
-import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
 import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
+import nl.jqno.equalsverifier.internal.util.ResultCache;
+import nl.jqno.equalsverifier.internal.util.StatisticsRecorder;
 import nl.jqno.equalsverifier.internal.util.Validations;
+import nl.jqno.equalsverifier.internal.util.VerificationSession;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test with a fluent API.
@@ -58,6 +65,9 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     private Set<String> ignoredAnnotationClassNames = new HashSet<>();
     private List<T> equalExamples = new ArrayList<>();
     private List<T> unequalExamples = new ArrayList<>();
+    private VerificationSession session = null;
+    private PrefabValues borrowedPrefabValues = null;
+    private ResultCache resultCache = null;
 
     /**
      * Constructor.
@@ -107,6 +117,15 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         this.unequalExamples = unequalExamples;
     }
 
+    /**
+     * Makes this verification share state, such as prefabricated values, with the verifications of
+     * other classes. Only to be called by {@link MultipleTypeEqualsVerifierApi}.
+     */
+    /* package protected */SingleTypeEqualsVerifierApi<T> inSession(VerificationSession session) {
+        this.session = session;
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SingleTypeEqualsVerifierApi<T> suppress(Warning... warnings) {
@@ -331,7 +350,36 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     /** {@inheritDoc} */
     @Override
     public SingleTypeEqualsVerifierApi<T> withResetCaches() {
-        ObjenesisWrapper.reset();
+        Caches.reset();
+        return this;
+    }
+
+    /**
+     * Remembers successful verifications in the given directory, and skips the verification if
+     * the class was verified successfully before, with the same configuration, and neither the
+     * class nor its superclasses have changed since.
+     *
+     * <p>Verifications that use examples, prefab values, a cached hashCode or a field name to getter
+     * converter are never skipped, because their results depend on more than the class files.
+     *
+     * @param directory The directory in which to remember successful verifications. It can be
+     *     shared between test runs, and between verifications of different classes.
+     * @param maxEntries The maximum number of verifications to remember. When there are more, the
+     *     ones that were least recently used are forgotten.
+     * @return {@code this}, for easy method chaining.
+     */
+    public SingleTypeEqualsVerifierApi<T> withResultCache(Path directory, int maxEntries) {
+        Validations.validateResultCache(directory, maxEntries);
+        this.resultCache = new ResultCache(directory, maxEntries);
+        return this;
+    }
+
+    /**
+     * Makes this verification use the given result cache. Only to be called by {@link
+     * MultipleTypeEqualsVerifierApi}.
+     */
+    /* package protected */SingleTypeEqualsVerifierApi<T> usingResultCache(ResultCache cache) {
+        this.resultCache = cache;
         return this;
     }
 
@@ -343,12 +391,16 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      *     preconditions do not hold.
      */
     public void verify() {
+        StatisticsRecorder recorder = StatisticsRecorder.start();
         try {
-            performVerification();
+            performVerification(recorder);
         } catch (MessagingException e) {
             throw new AssertionError(buildErrorMessage(e.getDescription(), true), e);
         } catch (Throwable e) {
             throw new AssertionError(buildErrorMessage(e.getMessage(), true), e);
+        } finally {
+            returnPrefabValues();
+            recorder.stop();
         }
     }
 
@@ -372,24 +424,41 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      *     whether {@link EqualsVerifier}'s preconditions hold.
      */
     public EqualsVerifierReport report(boolean showUrl) {
+        StatisticsRecorder recorder = StatisticsRecorder.start();
         try {
-            performVerification();
-            return EqualsVerifierReport.success(type);
+            performVerification(recorder);
+            return EqualsVerifierReport.success(type, recorder.statistics());
         } catch (MessagingException e) {
             return EqualsVerifierReport.failure(
                 type,
                 buildErrorMessage(e.getDescription(), showUrl),
-                e
+                e,
+                recorder.statistics()
             );
         } catch (Throwable e) {
             return EqualsVerifierReport.failure(
                 type,
                 buildErrorMessage(e.getMessage(), showUrl),
-                e
+                e,
+                recorder.statistics()
             );
+        } finally {
+            returnPrefabValues();
+            recorder.stop();
         }
     }
 
+    /*
+     * Only called once the error message has been built, because building it can call toString on
+     * prefab values.
+     */
+    private void returnPrefabValues() {
+        if (session != null && borrowedPrefabValues != null) {
+            session.returnPrefabValues(borrowedPrefabValues);
+        }
+        borrowedPrefabValues = null;
+    }
+
     private String buildErrorMessage(String description, boolean showUrl) {
         String message = description == null ? "<no message>" : description;
         String result = Formatter
@@ -401,13 +470,27 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return result;
     }
 
-    private void performVerification() {
+    private void performVerification(StatisticsRecorder recorder) {
+        Runnable endEvent = FlightRecorderHelper.beginVerification(type);
+        try {
+            performVerificationSteps(recorder);
+        } finally {
+            endEvent.run();
+        }
+    }
+
+    private void performVerificationSteps(StatisticsRecorder recorder) {
         if (type.isEnum() || type.isInterface()) {
             return;
         }
         Validations.validateClassCanBeVerified(type);
 
-        Configuration<T> config = buildConfig();
+        String cacheKey = resultCacheKey();
+        if (cacheKey != null && resultCache.contains(cacheKey)) {
+            return;
+        }
+
+        Configuration<T> config = buildConfig(recorder);
         Validations.validateProcessedAnnotations(
             type,
             config.getAnnotationCache(),
@@ -416,11 +499,64 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             allExcludedFields
         );
 
-        verifyWithoutExamples(config);
-        verifyWithExamples(config);
+        verifyWithoutExamples(config, recorder);
+        verifyWithExamples(config, recorder);
+
+        if (cacheKey != null) {
+            resultCache.add(cacheKey);
+        }
+    }
+
+    private String resultCacheKey() {
+        boolean cacheable =
+            resultCache != null &&
+            cachedHashCodeInitializer.isPassthrough() &&
+            fieldnameToGetter == null &&
+            !factoryCache.iterator().hasNext() &&
+            equalExamples.isEmpty() &&
+            unequalExamples.isEmpty();
+        if (!cacheable) {
+            return null;
+        }
+        List<Class<?>> types = new ArrayList<>();
+        types.add(type);
+        if (redefinedSubclass != null) {
+            types.add(redefinedSubclass);
+        }
+        return resultCache.keyFor(types, fingerprint());
+    }
+
+    private String fingerprint() {
+        return (
+            "suppress=" +
+            warningsToSuppress +
+            ";usingGetClass=" +
+            usingGetClass +
+            ";redefinedSuperclass=" +
+            hasRedefinedSuperclass +
+            ";excluded=" +
+            new TreeSet<>(allExcludedFields) +
+            ";included=" +
+            new TreeSet<>(allIncludedFields) +
+            ";nonnull=" +
+            new TreeSet<>(nonnullFields) +
+            ";ignoredAnnotations=" +
+            new TreeSet<>(ignoredAnnotationClassNames)
+        );
+    }
+
+    private Configuration<T> buildConfig(StatisticsRecorder recorder) {
+        long start = System.nanoTime();
+        try {
+            return buildConfig();
+        } finally {
+            recorder.record("Configuration", start);
+        }
     }
 
     private Configuration<T> buildConfig() {
+        VerificationSession s = session == null ? new VerificationSession() : session;
+        borrowedPrefabValues = s.borrowPrefabValues(factoryCache);
         return Configuration.build(
             type,
             allExcludedFields,
@@ -432,7 +568,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             usingGetClass,
             warningsToSuppress,
             fieldnameToGetter,
-            factoryCache,
+            borrowedPrefabValues,
             ignoredAnnotationClassNames,
             actualFields,
             equalExamples,
@@ -440,7 +576,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         );
     }
 
-    private void verifyWithoutExamples(Configuration<T> config) {
+    private void verifyWithoutExamples(Configuration<T> config, StatisticsRecorder recorder) {
         Checker[] checkers = {
             new SignatureChecker<>(config),
             new AbstractDelegationChecker<>(config),
@@ -449,12 +585,10 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             new CachedHashCodeChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        check(checkers, recorder);
     }
 
-    private void verifyWithExamples(Configuration<T> config) {
+    private void verifyWithExamples(Configuration<T> config, StatisticsRecorder recorder) {
         Checker[] checkers = {
             new ExamplesChecker<>(config),
             new HierarchyChecker<>(config),
@@ -462,8 +596,18 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             new MapEntryHashCodeRequirementChecker<>(config)
         };
 
+        check(checkers, recorder);
+    }
+
+    private void check(Checker[] checkers, StatisticsRecorder recorder) {
         for (Checker checker : checkers) {
-            checker.check();
+            String name = checker.getClass().getSimpleName();
+            Runnable endEvent = FlightRecorderHelper.beginCheck(type, name);
+            try {
+                recorder.time(name, checker::check);
+            } finally {
+                endEvent.run();
+            }
         }
     }
 }
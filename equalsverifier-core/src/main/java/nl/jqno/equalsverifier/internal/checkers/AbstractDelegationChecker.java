@@ -60,7 +60,7 @@ public class AbstractDelegationChecker<T> implements Checker {
 
     private void checkAbstractDelegationInFields() {
         for (Field field : FieldIterable.of(type)) {
-            TypeTag tag = TypeTag.of(field, typeTag);
+            TypeTag tag = prefabValues.tagFor(field, typeTag);
             Tuple<?> tuple = safelyGetTuple(tag);
             if (tuple != null) {
                 Object instance = tuple.getRed();
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import java.lang.reflect.Field;
 import java.util.Set;
+import java.util.function.Supplier;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
@@ -14,16 +15,18 @@ public class FieldInspector<T> {
 
     private final ClassAccessor<T> classAccessor;
     private final TypeTag typeTag;
+    private final Supplier<ObjectAccessor<T>> redAccessors;
 
     public FieldInspector(ClassAccessor<T> classAccessor, TypeTag typeTag) {
         this.classAccessor = classAccessor;
         this.typeTag = typeTag;
+        this.redAccessors = snapshotting(() -> classAccessor.getRedAccessor(typeTag));
     }
 
     public void check(FieldCheck<T> check) {
         for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getRedAccessor(typeTag);
-            ObjectAccessor<T> copy = classAccessor.getRedAccessor(typeTag);
+            ObjectAccessor<T> reference = redAccessors.get();
+            ObjectAccessor<T> copy = redAccessors.get();
             FieldAccessor fieldAccessor = FieldAccessor.of(field);
 
             check.execute(reference, copy, fieldAccessor);
@@ -37,24 +40,46 @@ public class FieldInspector<T> {
         AnnotationCache annotationCache,
         FieldCheck<T> check
     ) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getDefaultValuesAccessor(
-                typeTag,
-                isNullWarningSuppressed,
-                isZeroWarningSuppressed,
-                nonnullFields,
-                annotationCache
-            );
-            ObjectAccessor<T> changed = classAccessor.getDefaultValuesAccessor(
+        Supplier<ObjectAccessor<T>> defaultValuesAccessors = snapshotting(() ->
+            classAccessor.getDefaultValuesAccessor(
                 typeTag,
                 isNullWarningSuppressed,
                 isZeroWarningSuppressed,
                 nonnullFields,
                 annotationCache
-            );
+            )
+        );
+        for (Field field : FieldIterable.of(classAccessor.getType())) {
+            ObjectAccessor<T> reference = defaultValuesAccessors.get();
+            ObjectAccessor<T> changed = defaultValuesAccessors.get();
             FieldAccessor fieldAccessor = FieldAccessor.of(field);
 
             check.execute(reference, changed, fieldAccessor);
         }
     }
+
+    /**
+     * Builds the object once and hands out fresh copies of it afterwards. Copying is much cheaper
+     * than instantiating and scrambling a new object, and gives an equal result: scrambling is
+     * deterministic, and the copy shares the same prefab values.
+     *
+     * <p>Records are always built from scratch, because copying a record calls its constructor
+     * again, which may modify the values a second time.
+     */
+    private Supplier<ObjectAccessor<T>> snapshotting(Supplier<ObjectAccessor<T>> factory) {
+        if (classAccessor.isRecord()) {
+            return factory;
+        }
+        return new Supplier<ObjectAccessor<T>>() {
+            private ObjectAccessor<T> snapshot;
+
+            @Override
+            public ObjectAccessor<T> get() {
+                if (snapshot == null) {
+                    snapshot = factory.get();
+                }
+                return ObjectAccessor.of(snapshot.copy());
+            }
+        };
+    }
 }
@@ -82,7 +82,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck<T> {
             return;
         }
 
-        TypeTag tag = TypeTag.of(field, typeTag);
+        TypeTag tag = prefabValues.tagFor(field, typeTag);
         Object left = referenceAccessor.withFieldSetTo(field, prefabValues.giveRed(tag)).get();
         Object right = copyAccessor.withFieldSetTo(field, prefabValues.giveRedCopy(tag)).get();
 
@@ -1,13 +1,17 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-/** Contains a cache of prefabricated values, for {@link PrefabValues}. */
+/**
+ * Contains a cache of prefabricated values, for {@link PrefabValues}.
+ *
+ * <p>Can be read from and written to by several threads at once.
+ */
 class Cache {
 
     @SuppressWarnings("rawtypes")
-    private final Map<TypeTag, Tuple> cache = new HashMap<>();
+    private final ConcurrentMap<TypeTag, Tuple> cache = new ConcurrentHashMap<>();
 
     /**
      * Adds a prefabricated value to the cache for the given type.
@@ -22,6 +26,22 @@ class Cache {
         cache.put(tag, new Tuple<>(red, blue, redCopy));
     }
 
+    /**
+     * Adds a prefabricated value to the cache for the given type, unless the cache already contains
+     * a value for it. In that case, the existing value is kept and returned, so that all threads
+     * end up using the same values.
+     *
+     * @param tag A description of the type. Takes generics into account.
+     * @param tuple The values for the given type.
+     * @param <T> The type of given tag.
+     * @return The values that are in the cache for the given type after this call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> putIfAbsent(TypeTag tag, Tuple<T> tuple) {
+        Tuple<T> existing = cache.putIfAbsent(tag, tuple);
+        return existing == null ? tuple : existing;
+    }
+
     /**
      * Returns a {@link Tuple} of prefabricated values for the specified type.
      *
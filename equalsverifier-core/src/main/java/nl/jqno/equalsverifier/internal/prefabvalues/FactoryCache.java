@@ -14,6 +14,36 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      */
     private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
 
+    /**
+     * Factories that are consulted when {@link #cache} doesn't contain the requested type. It is
+     * never modified through this instance, so it can be shared between many caches.
+     */
+    private final FactoryCache fallback;
+
+    /** Constructor. Creates an empty cache without a fallback. */
+    public FactoryCache() {
+        this(null);
+    }
+
+    private FactoryCache(FactoryCache fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Creates an empty {@code FactoryCache} that looks up factories in {@code fallback} when it
+     * doesn't contain them itself.
+     *
+     * <p>{@code fallback} is not copied; the new cache refers to it directly. Factories that are
+     * added to the new cache take precedence over those in {@code fallback}, and are never added to
+     * {@code fallback} itself.
+     *
+     * @param fallback The cache to fall back to.
+     * @return A new, empty {@code FactoryCache} layered over {@code fallback}.
+     */
+    public static FactoryCache layeredOver(FactoryCache fallback) {
+        return new FactoryCache(fallback);
+    }
+
     /**
      * Adds the given factory to the cache and associates it with the given type.
      *
@@ -55,7 +85,11 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>) cache.get(type.getName());
+        PrefabValueFactory<T> result = (PrefabValueFactory<T>) cache.get(type.getName());
+        if (result == null && fallback != null) {
+            return fallback.get(type);
+        }
+        return result;
     }
 
     /**
@@ -63,19 +97,33 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * @return Whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return cache.containsKey(type.getName()) || (fallback != null && fallback.contains(type));
+    }
+
+    /**
+     * Determines whether {@code other} contains exactly the same factories as {@code this}.
+     * Factories are compared by identity.
+     *
+     * @param other The cache to compare with.
+     * @return Whether both caches contain the same factories for the same types.
+     */
+    public boolean containsSameFactoriesAs(FactoryCache other) {
+        return other != null && fallback == other.fallback && cache.equals(other.cache);
     }
 
     /**
      * Returns a new {@code FactoryCache} instance containing the factories from {@code this} and
      * from the {@code other} cache.
      *
+     * <p>If {@code this} is layered over a fallback cache, the result is layered over the same
+     * fallback cache, which is not copied.
+     *
      * @param other The other cache
      * @return a new instance containing factories from {@code this} and {@code other}
      */
     public FactoryCache merge(FactoryCache other) {
-        FactoryCache result = new FactoryCache();
-        copy(result, this);
+        FactoryCache result = new FactoryCache(fallback);
+        result.cache.putAll(cache);
         copy(result, other);
         return result;
     }
@@ -86,9 +134,20 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         }
     }
 
-    /** Provides an iterator over all available factories. */
+    /**
+     * Provides an iterator over all available factories, including those from the fallback cache
+     * that aren't overridden in this one.
+     */
     @Override
     public Iterator<Map.Entry<String, PrefabValueFactory<?>>> iterator() {
-        return cache.entrySet().iterator();
+        if (fallback == null) {
+            return cache.entrySet().iterator();
+        }
+        Map<String, PrefabValueFactory<?>> result = new HashMap<>();
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : fallback) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        result.putAll(cache);
+        return result.entrySet().iterator();
     }
 }
@@ -16,10 +16,6 @@ import java.net.*;
 import java.nio.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.text.DateFormat;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.text.SimpleDateFormat;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -68,11 +64,22 @@ public final class JavaApiPrefabValues {
     private static final ExternalFactory<?> RMI_FACTORY = new ExternalFactory<>(
         "RmiFactoryProvider"
     );
+    private static final ExternalFactory<?> LOCALE_FACTORY = new ExternalFactory<>(
+        "LocaleFactoryProvider"
+    );
 
     private static final Comparator<Object> OBJECT_COMPARATOR = Comparator.comparingInt(
         Object::hashCode
     );
 
+    /**
+     * The factories for Java API classes. Building them is expensive, so they are only built once;
+     * callers never get a direct reference, so it is never modified after construction. Because
+     * they are shared by the entire JVM, the factories for mutable types create new instances each
+     * time they're called, so different verifications never share them.
+     */
+    private static final FactoryCache BUILT_IN_FACTORIES = buildBuiltInFactories();
+
     private final FactoryCache factoryCache;
 
     private enum Dummy {
@@ -89,9 +96,16 @@ public final class JavaApiPrefabValues {
      * Creates a FactoryCache pre-populated with instances of Java API classes that cannot be
      * instantiated dynamically.
      *
+     * <p>The returned cache is layered over a table of factories that is shared by the entire JVM.
+     * Factories can be added to it without affecting other caches.
+     *
      * @return A pre-populated {@link FactoryCache}.
      */
     public static FactoryCache build() {
+        return FactoryCache.layeredOver(BUILT_IN_FACTORIES);
+    }
+
+    private static FactoryCache buildBuiltInFactories() {
         FactoryCache result = new FactoryCache();
         new JavaApiPrefabValues(result).addJavaClasses();
         return result;
@@ -167,7 +181,7 @@ public final class JavaApiPrefabValues {
             StandardCharsets.UTF_8
         );
         addValues(File.class, new File(""), new File("/"), new File(""));
-        addValues(Formatter.class, new Formatter(), new Formatter(), new Formatter());
+        addLazyFactory("java.util.Formatter", LOCALE_FACTORY);
         addValues(Locale.class, new Locale("nl"), new Locale("hu"), new Locale("nl"));
         addValues(
             Pattern.class,
@@ -175,16 +189,24 @@ public final class JavaApiPrefabValues {
             Pattern.compile("two"),
             Pattern.compile("one")
         );
-        addValues(Scanner.class, new Scanner("one"), new Scanner("two"), new Scanner("one"));
-        addValues(StampedLock.class, new StampedLock(), new StampedLock(), new StampedLock());
-        addValues(
+        addLazyFactory("java.util.Scanner", LOCALE_FACTORY);
+        addFreshValues(
+            StampedLock.class,
+            () -> new Tuple<>(new StampedLock(), new StampedLock(), new StampedLock())
+        );
+        addFreshValues(
             StringBuilder.class,
-            new StringBuilder("one"),
-            new StringBuilder("two"),
-            new StringBuilder("three")
+            () ->
+                new Tuple<>(
+                    new StringBuilder("one"),
+                    new StringBuilder("two"),
+                    new StringBuilder("three")
+                )
+        );
+        addFreshValues(
+            Thread.class,
+            () -> new Tuple<>(new Thread("one"), new Thread("two"), new Thread("one"))
         );
-        addValues(Thread.class, new Thread("one"), new Thread("two"), new Thread("one"));
-        addValues(Throwable.class, new Throwable(), new Throwable(), new Throwable());
         addValues(URI.class, URI.create("x"), URI.create("y"), URI.create("x"));
         addValues(UUID.class, new UUID(0, -1), new UUID(1, 0), new UUID(0, -1));
         addValues(PrintStream.class, System.out, System.err, System.out);
@@ -221,42 +243,40 @@ public final class JavaApiPrefabValues {
             Currency.getInstance("JPY")
         );
 
-        Semaphore redSemaphore = new Semaphore(1);
-        Semaphore blueSemaphore = new Semaphore(1);
-        addValues(Semaphore.class, redSemaphore, blueSemaphore, redSemaphore);
-        DoubleSummaryStatistics redDoubleStats = new DoubleSummaryStatistics();
-        DoubleSummaryStatistics blueDoubleStats = new DoubleSummaryStatistics();
-        addValues(DoubleSummaryStatistics.class, redDoubleStats, blueDoubleStats, redDoubleStats);
-        IntSummaryStatistics redIntStats = new IntSummaryStatistics();
-        IntSummaryStatistics blueIntStats = new IntSummaryStatistics();
-        addValues(IntSummaryStatistics.class, redIntStats, blueIntStats, redIntStats);
-        LongSummaryStatistics redLongStats = new LongSummaryStatistics();
-        LongSummaryStatistics blueLongStats = new LongSummaryStatistics();
-        addValues(LongSummaryStatistics.class, redLongStats, blueLongStats, redLongStats);
+        addFreshIdentityValues(Semaphore.class, () -> new Semaphore(1), () -> new Semaphore(1));
+        addFreshIdentityValues(
+            DoubleSummaryStatistics.class,
+            DoubleSummaryStatistics::new,
+            DoubleSummaryStatistics::new
+        );
+        addFreshIdentityValues(
+            IntSummaryStatistics.class,
+            IntSummaryStatistics::new,
+            IntSummaryStatistics::new
+        );
+        addFreshIdentityValues(
+            LongSummaryStatistics.class,
+            LongSummaryStatistics::new,
+            LongSummaryStatistics::new
+        );
     }
 
     // CHECKSTYLE ON: ExecutableStatementCount
 
     private void addDateTimeClasses() {
-        addValues(
-            Calendar.class,
-            new GregorianCalendar(2010, Calendar.AUGUST, 4),
-            new GregorianCalendar(2010, Calendar.AUGUST, 5),
-            new GregorianCalendar(2010, Calendar.AUGUST, 4)
-        );
+        addLazyFactory("java.util.Calendar", LOCALE_FACTORY);
+        addLazyFactory("java.util.GregorianCalendar", LOCALE_FACTORY);
+        addLazyFactory("java.text.DateFormat", LOCALE_FACTORY);
+        addLazyFactory("java.text.DecimalFormat", LOCALE_FACTORY);
+        addLazyFactory("java.text.NumberFormat", LOCALE_FACTORY);
+        addLazyFactory("java.text.SimpleDateFormat", LOCALE_FACTORY);
         addValues(
             Clock.class,
             Clock.systemUTC(),
             Clock.system(ZoneId.of("-10")),
             Clock.systemUTC()
         );
-        addValues(Date.class, new Date(0), new Date(1), new Date(0));
-        addValues(
-            DateFormat.class,
-            DateFormat.getTimeInstance(),
-            DateFormat.getDateInstance(),
-            DateFormat.getTimeInstance()
-        );
+        addFreshValues(Date.class, () -> new Tuple<>(new Date(0), new Date(1), new Date(0)));
         addValues(
             DateTimeFormatter.class,
             DateTimeFormatter.ISO_TIME,
@@ -264,12 +284,6 @@ public final class JavaApiPrefabValues {
             DateTimeFormatter.ISO_TIME
         );
         addValues(Duration.class, Duration.ZERO, Duration.ofDays(1L), Duration.ZERO);
-        addValues(
-            GregorianCalendar.class,
-            new GregorianCalendar(2010, Calendar.AUGUST, 4),
-            new GregorianCalendar(2010, Calendar.AUGUST, 5),
-            new GregorianCalendar(2010, Calendar.AUGUST, 4)
-        );
         addValues(Instant.class, Instant.MIN, Instant.MAX, Instant.MIN);
         addValues(LocalDateTime.class, LocalDateTime.MIN, LocalDateTime.MAX, LocalDateTime.MIN);
         addValues(LocalDate.class, LocalDate.MIN, LocalDate.MAX, LocalDate.MIN);
@@ -278,29 +292,14 @@ public final class JavaApiPrefabValues {
         addValues(OffsetDateTime.class, OffsetDateTime.MIN, OffsetDateTime.MAX, OffsetDateTime.MIN);
         addValues(OffsetTime.class, OffsetTime.MIN, OffsetTime.MAX, OffsetTime.MIN);
         addValues(Period.class, Period.ZERO, Period.of(1, 1, 1), Period.ZERO);
-        addValues(
-            DecimalFormat.class,
-            new DecimalFormat("x0.0"),
-            new DecimalFormat("y0.0"),
-            new DecimalFormat("x0.0")
-        );
-        addValues(
-            NumberFormat.class,
-            new DecimalFormat("x0.0"),
-            new DecimalFormat("y0.0"),
-            new DecimalFormat("x0.0")
-        );
-        addValues(
-            SimpleDateFormat.class,
-            new SimpleDateFormat("yMd"),
-            new SimpleDateFormat("dMy"),
-            new SimpleDateFormat("yMd")
-        );
-        addValues(
+        addFreshValues(
             TimeZone.class,
-            TimeZone.getTimeZone("GMT+1"),
-            TimeZone.getTimeZone("GMT+2"),
-            TimeZone.getTimeZone("GMT+1")
+            () ->
+                new Tuple<>(
+                    TimeZone.getTimeZone("GMT+1"),
+                    TimeZone.getTimeZone("GMT+2"),
+                    TimeZone.getTimeZone("GMT+1")
+                )
         );
         addValues(Year.class, Year.of(2000), Year.of(2010), Year.of(2000));
         addValues(
@@ -327,23 +326,32 @@ public final class JavaApiPrefabValues {
     private void addUncommonClasses() {
         addFactory(ThreadLocal.class, simple(a -> ThreadLocal.withInitial(() -> a), null));
 
-        addValues(
+        addFreshValues(
             java.sql.Date.class,
-            new java.sql.Date(1337),
-            new java.sql.Date(42),
-            new java.sql.Date(1337)
+            () ->
+                new Tuple<>(
+                    new java.sql.Date(1337),
+                    new java.sql.Date(42),
+                    new java.sql.Date(1337)
+                )
         );
-        addValues(
+        addFreshValues(
             java.sql.Time.class,
-            new java.sql.Time(1337),
-            new java.sql.Time(42),
-            new java.sql.Time(1337)
+            () ->
+                new Tuple<>(
+                    new java.sql.Time(1337),
+                    new java.sql.Time(42),
+                    new java.sql.Time(1337)
+                )
         );
-        addValues(
+        addFreshValues(
             java.sql.Timestamp.class,
-            new java.sql.Timestamp(1337),
-            new java.sql.Timestamp(42),
-            new java.sql.Timestamp(1337)
+            () ->
+                new Tuple<>(
+                    new java.sql.Timestamp(1337),
+                    new java.sql.Timestamp(42),
+                    new java.sql.Timestamp(1337)
+                )
         );
 
         addValues(EventObject.class, new EventObject(1), new EventObject(2), new EventObject(1));
@@ -433,11 +441,14 @@ public final class JavaApiPrefabValues {
         addFactory(HashSet.class, collection(HashSet::new));
         addFactory(TreeSet.class, collection(() -> new TreeSet<>(OBJECT_COMPARATOR)));
         addFactory(EnumSet.class, new EnumSetFactory<>(EnumSet::copyOf));
-        addValues(
+        addFreshValues(
             BitSet.class,
-            BitSet.valueOf(new byte[] { 0 }),
-            BitSet.valueOf(new byte[] { 1 }),
-            BitSet.valueOf(new byte[] { 0 })
+            () ->
+                new Tuple<>(
+                    BitSet.valueOf(new byte[] { 0 }),
+                    BitSet.valueOf(new byte[] { 1 }),
+                    BitSet.valueOf(new byte[] { 0 })
+                )
         );
     }
 
@@ -455,81 +466,94 @@ public final class JavaApiPrefabValues {
             PriorityBlockingQueue.class,
             collection(() -> new PriorityBlockingQueue<>(1, OBJECT_COMPARATOR))
         );
-        addValues(
+        addFreshValues(
             SynchronousQueue.class,
-            new SynchronousQueue<>(),
-            new SynchronousQueue<>(),
-            new SynchronousQueue<>()
+            () ->
+                new Tuple<>(
+                    new SynchronousQueue<>(),
+                    new SynchronousQueue<>(),
+                    new SynchronousQueue<>()
+                )
         );
     }
 
     private void addNioBuffers() {
-        addValues(
+        addFreshValues(
             Buffer.class,
-            ByteBuffer.wrap(new byte[] { 0 }),
-            ByteBuffer.wrap(new byte[] { 1 }),
-            ByteBuffer.wrap(new byte[] { 0 })
+            () ->
+                new Tuple<>(
+                    ByteBuffer.wrap(new byte[] { 0 }),
+                    ByteBuffer.wrap(new byte[] { 1 }),
+                    ByteBuffer.wrap(new byte[] { 0 })
+                )
         );
-        addValues(
+        addFreshValues(
             ByteBuffer.class,
-            ByteBuffer.wrap(new byte[] { 0 }),
-            ByteBuffer.wrap(new byte[] { 1 }),
-            ByteBuffer.wrap(new byte[] { 0 })
+            () ->
+                new Tuple<>(
+                    ByteBuffer.wrap(new byte[] { 0 }),
+                    ByteBuffer.wrap(new byte[] { 1 }),
+                    ByteBuffer.wrap(new byte[] { 0 })
+                )
         );
-        addValues(
+        addFreshValues(
             CharBuffer.class,
-            CharBuffer.wrap("a"),
-            CharBuffer.wrap("b"),
-            CharBuffer.wrap("a")
+            () -> new Tuple<>(CharBuffer.wrap("a"), CharBuffer.wrap("b"), CharBuffer.wrap("a"))
         );
-        addValues(
+        addFreshValues(
             DoubleBuffer.class,
-            DoubleBuffer.wrap(new double[] { 0.0 }),
-            DoubleBuffer.wrap(new double[] { 1.0 }),
-            DoubleBuffer.wrap(new double[] { 0.0 })
+            () ->
+                new Tuple<>(
+                    DoubleBuffer.wrap(new double[] { 0.0 }),
+                    DoubleBuffer.wrap(new double[] { 1.0 }),
+                    DoubleBuffer.wrap(new double[] { 0.0 })
+                )
         );
-        addValues(
+        addFreshValues(
             FloatBuffer.class,
-            FloatBuffer.wrap(new float[] { 0.0f }),
-            FloatBuffer.wrap(new float[] { 1.0f }),
-            FloatBuffer.wrap(new float[] { 0.0f })
+            () ->
+                new Tuple<>(
+                    FloatBuffer.wrap(new float[] { 0.0f }),
+                    FloatBuffer.wrap(new float[] { 1.0f }),
+                    FloatBuffer.wrap(new float[] { 0.0f })
+                )
         );
-        addValues(
+        addFreshValues(
             IntBuffer.class,
-            IntBuffer.wrap(new int[] { 0 }),
-            IntBuffer.wrap(new int[] { 1 }),
-            IntBuffer.wrap(new int[] { 0 })
+            () ->
+                new Tuple<>(
+                    IntBuffer.wrap(new int[] { 0 }),
+                    IntBuffer.wrap(new int[] { 1 }),
+                    IntBuffer.wrap(new int[] { 0 })
+                )
         );
-        addValues(
+        addFreshValues(
             LongBuffer.class,
-            LongBuffer.wrap(new long[] { 0 }),
-            LongBuffer.wrap(new long[] { 1 }),
-            LongBuffer.wrap(new long[] { 0 })
+            () ->
+                new Tuple<>(
+                    LongBuffer.wrap(new long[] { 0 }),
+                    LongBuffer.wrap(new long[] { 1 }),
+                    LongBuffer.wrap(new long[] { 0 })
+                )
         );
-        addValues(
+        addFreshValues(
             ShortBuffer.class,
-            ShortBuffer.wrap(new short[] { 0 }),
-            ShortBuffer.wrap(new short[] { 1 }),
-            ShortBuffer.wrap(new short[] { 0 })
+            () ->
+                new Tuple<>(
+                    ShortBuffer.wrap(new short[] { 0 }),
+                    ShortBuffer.wrap(new short[] { 1 }),
+                    ShortBuffer.wrap(new short[] { 0 })
+                )
         );
     }
 
     private void addExceptions() {
-        Throwable redThrowable = new Throwable();
-        Throwable blueThrowable = new Throwable();
-        addValues(Throwable.class, redThrowable, blueThrowable, redThrowable);
-
-        Exception redException = new Exception();
-        Exception blueException = new Exception();
-        addValues(Exception.class, redException, blueException, redException);
-
-        RuntimeException redRuntimeException = new RuntimeException();
-        RuntimeException blueRuntimeException = new RuntimeException();
-        addValues(
+        addFreshIdentityValues(Throwable.class, Throwable::new, Throwable::new);
+        addFreshIdentityValues(Exception.class, Exception::new, Exception::new);
+        addFreshIdentityValues(
             RuntimeException.class,
-            redRuntimeException,
-            blueRuntimeException,
-            redRuntimeException
+            RuntimeException::new,
+            RuntimeException::new
         );
     }
 
@@ -592,30 +616,40 @@ public final class JavaApiPrefabValues {
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void addAtomicClasses() {
-        addValues(
+        addFreshValues(
             AtomicBoolean.class,
-            new AtomicBoolean(true),
-            new AtomicBoolean(false),
-            new AtomicBoolean(true)
+            () ->
+                new Tuple<>(
+                    new AtomicBoolean(true),
+                    new AtomicBoolean(false),
+                    new AtomicBoolean(true)
+                )
         );
-        addValues(
+        addFreshValues(
             AtomicInteger.class,
-            new AtomicInteger(1),
-            new AtomicInteger(2),
-            new AtomicInteger(1)
+            () -> new Tuple<>(new AtomicInteger(1), new AtomicInteger(2), new AtomicInteger(1))
         );
-        addValues(
+        addFreshValues(
             AtomicIntegerArray.class,
-            new AtomicIntegerArray(new int[] { 1 }),
-            new AtomicIntegerArray(new int[] { 2 }),
-            new AtomicIntegerArray(new int[] { 1 })
+            () ->
+                new Tuple<>(
+                    new AtomicIntegerArray(new int[] { 1 }),
+                    new AtomicIntegerArray(new int[] { 2 }),
+                    new AtomicIntegerArray(new int[] { 1 })
+                )
         );
-        addValues(AtomicLong.class, new AtomicLong(1L), new AtomicLong(2L), new AtomicLong(1L));
-        addValues(
+        addFreshValues(
+            AtomicLong.class,
+            () -> new Tuple<>(new AtomicLong(1L), new AtomicLong(2L), new AtomicLong(1L))
+        );
+        addFreshValues(
             AtomicLongArray.class,
-            new AtomicLongArray(new long[] { 1L }),
-            new AtomicLongArray(new long[] { 2L }),
-            new AtomicLongArray(new long[] { 1L })
+            () ->
+                new Tuple<>(
+                    new AtomicLongArray(new long[] { 1L }),
+                    new AtomicLongArray(new long[] { 2L }),
+                    new AtomicLongArray(new long[] { 1L })
+                )
         );
         addFactory(
             AtomicMarkableReference.class,
@@ -641,27 +675,17 @@ public final class JavaApiPrefabValues {
             }
         );
 
-        DoubleAdder redDoubleAdder = new DoubleAdder();
-        DoubleAdder blueDoubleAdder = new DoubleAdder();
-        addValues(DoubleAdder.class, redDoubleAdder, blueDoubleAdder, redDoubleAdder);
-        DoubleAccumulator redDoubleAccumulator = new DoubleAccumulator((a, b) -> a + b, 0.0);
-        DoubleAccumulator blueDoubleAccumulator = new DoubleAccumulator((a, b) -> a * b, 1.0);
-        addValues(
+        addFreshIdentityValues(DoubleAdder.class, DoubleAdder::new, DoubleAdder::new);
+        addFreshIdentityValues(
             DoubleAccumulator.class,
-            redDoubleAccumulator,
-            blueDoubleAccumulator,
-            redDoubleAccumulator
-        );
-        LongAdder redLongAdder = new LongAdder();
-        LongAdder blueLongAdder = new LongAdder();
-        addValues(LongAdder.class, redLongAdder, blueLongAdder, redLongAdder);
-        LongAccumulator redLongAccumulator = new LongAccumulator((a, b) -> a + b, 0);
-        LongAccumulator blueLongAccumulator = new LongAccumulator((a, b) -> a * b, 1);
-        addValues(
+            () -> new DoubleAccumulator((a, b) -> a + b, 0.0),
+            () -> new DoubleAccumulator((a, b) -> a * b, 1.0)
+        );
+        addFreshIdentityValues(LongAdder.class, LongAdder::new, LongAdder::new);
+        addFreshIdentityValues(
             LongAccumulator.class,
-            redLongAccumulator,
-            blueLongAccumulator,
-            redLongAccumulator
+            () -> new LongAccumulator((a, b) -> a + b, 0),
+            () -> new LongAccumulator((a, b) -> a * b, 1)
         );
     }
 
@@ -673,13 +697,14 @@ public final class JavaApiPrefabValues {
         addLazyFactory("java.awt.Font", AWT_FACTORY);
         addLazyFactory("java.awt.Image", AWT_FACTORY);
 
-        addFactory(
+        addFreshValues(
             PropertyChangeSupport.class,
-            values(
-                new PropertyChangeSupport("this"),
-                new PropertyChangeSupport("that"),
-                new PropertyChangeSupport("this")
-            )
+            () ->
+                new Tuple<>(
+                    new PropertyChangeSupport("this"),
+                    new PropertyChangeSupport("that"),
+                    new PropertyChangeSupport("this")
+                )
         );
 
         addLazyFactory("java.rmi.dgc.VMID", RMI_FACTORY);
@@ -784,6 +809,25 @@ public final class JavaApiPrefabValues {
         factoryCache.put(type, values(red, blue, redCopy));
     }
 
+    /*
+     * For mutable types. The factories are shared by the entire JVM, so they must not hand out the
+     * same instances to different verifications, which may run at the same time.
+     */
+    private <T> void addFreshValues(Class<T> type, Supplier<Tuple<T>> values) {
+        factoryCache.put(type, fresh(values));
+    }
+
+    /* For mutable types that don't override equals, so the red copy must be the red instance. */
+    private <T> void addFreshIdentityValues(Class<T> type, Supplier<T> red, Supplier<T> blue) {
+        addFreshValues(
+            type,
+            () -> {
+                T r = red.get();
+                return new Tuple<>(r, blue.get(), r);
+            }
+        );
+    }
+
     private <T> void addFactory(Class<T> type, PrefabValueFactory<T> factory) {
         factoryCache.put(type, factory);
     }
@@ -1,25 +1,36 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.reflect.Field;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.FallbackFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderHelper;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.StatisticsRecorder;
 
 /**
  * Container and creator of prefabricated instances of objects and classes.
  *
  * <p>Only creates values ones, and caches them once they've been created. Takes generics into
  * account; i.e., {@code List<Integer>} is different from {@code List<String>}.
+ *
+ * <p>Several threads can use the same instance at once. Values are created without holding any
+ * locks, so types that refer to each other can't cause a deadlock; recursion is still detected
+ * through the type stack of each individual call. If two threads happen to create values for the
+ * same type at the same time, the first one to finish wins and both threads use its values.
  */
 public class PrefabValues {
 
     private final Cache cache = new Cache();
     private final FactoryCache factoryCache;
     private final PrefabValueFactory<?> fallbackFactory = new FallbackFactory<>();
+    private final ConcurrentMap<FieldInType, TypeTag> fieldTags = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -31,6 +42,28 @@ public class PrefabValues {
         this.factoryCache = factoryCache;
     }
 
+    /**
+     * Resolves the TypeTag of a field, like {@link TypeTag#of(Field, TypeTag)}, but only once for
+     * each combination of field and enclosing type.
+     *
+     * <p>The results are kept for as long as this instance, i.e. for a single verification or a
+     * single {@code forClasses} or {@code forPackage} run, so they don't keep classes alive after
+     * that.
+     *
+     * @param field The field to resolve.
+     * @param enclosingType The type that contains the field, used to determine any generic
+     *     parameters it may contain.
+     * @return The TypeTag for the given field.
+     */
+    public TypeTag tagFor(Field field, TypeTag enclosingType) {
+        FieldInType key = new FieldInType(field, enclosingType);
+        TypeTag result = fieldTags.get(key);
+        if (result == null) {
+            result = fieldTags.computeIfAbsent(key, k -> TypeTag.of(field, enclosingType));
+        }
+        return result;
+    }
+
     /**
      * Returns the "red" prefabricated value of the specified type.
      *
@@ -78,7 +111,7 @@ public class PrefabValues {
      * @return A tuple of two different values of the given type.
      */
     public <T> Tuple<T> giveTuple(TypeTag tag) {
-        return giveTuple(tag, new LinkedHashSet<>());
+        return giveTuple(tag, TypeStack.empty());
     }
 
     /**
@@ -89,9 +122,20 @@ public class PrefabValues {
      * @param typeStack Keeps track of recursion in the type.
      * @return A tuple of two different values of the given type.
      */
-    public <T> Tuple<T> giveTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
-        realizeCacheFor(tag, typeStack);
-        return cache.getTuple(tag);
+    public <T> Tuple<T> giveTuple(TypeTag tag, TypeStack typeStack) {
+        Tuple<T> result = cache.getTuple(tag);
+        if (result == null) {
+            StatisticsRecorder.prefabCacheMiss();
+            Runnable endEvent = FlightRecorderHelper.beginPrefabValueCreation(tag);
+            try {
+                result = cache.putIfAbsent(tag, createTuple(tag, typeStack));
+            } finally {
+                endEvent.run();
+            }
+        } else {
+            StatisticsRecorder.prefabCacheHit();
+        }
+        return result;
     }
 
     /**
@@ -104,7 +148,7 @@ public class PrefabValues {
      * @return A value that is different from {@code value}.
      */
     public <T> T giveOther(TypeTag tag, T value) {
-        return giveOther(tag, value, new LinkedHashSet<>());
+        return giveOther(tag, value, TypeStack.empty());
     }
 
     /**
@@ -117,7 +161,7 @@ public class PrefabValues {
      * @param typeStack Keeps track of recursion in the type.
      * @return A value that is different from {@code value}.
      */
-    public <T> T giveOther(TypeTag tag, T value, LinkedHashSet<TypeTag> typeStack) {
+    public <T> T giveOther(TypeTag tag, T value, TypeStack typeStack) {
         Class<T> type = tag.getType();
         if (
             value != null &&
@@ -157,14 +201,14 @@ public class PrefabValues {
      * @param tag A description of the desired type, including generic parameters.
      * @param typeStack Keeps track of recursion in the type.
      */
-    public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    public <T> void realizeCacheFor(TypeTag tag, TypeStack typeStack) {
         if (!cache.contains(tag)) {
             Tuple<T> tuple = createTuple(tag, typeStack);
-            addToCache(tag, tuple);
+            cache.putIfAbsent(tag, tuple);
         }
     }
 
-    private <T> Tuple<T> createTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    private <T> Tuple<T> createTuple(TypeTag tag, TypeStack typeStack) {
         if (typeStack.contains(tag)) {
             throw new RecursionException(typeStack);
         }
@@ -180,7 +224,29 @@ public class PrefabValues {
         return result;
     }
 
-    private void addToCache(TypeTag tag, Tuple<?> tuple) {
-        cache.put(tag, tuple.getRed(), tuple.getBlue(), tuple.getRedCopy());
+    /** Key for {@link #fieldTags}: a field, as seen from a specific enclosing type. */
+    private static final class FieldInType {
+
+        private final Field field;
+        private final TypeTag enclosingType;
+
+        private FieldInType(Field field, TypeTag enclosingType) {
+            this.field = field;
+            this.enclosingType = enclosingType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FieldInType)) {
+                return false;
+            }
+            FieldInType other = (FieldInType) obj;
+            return field.equals(other.field) && Objects.equals(enclosingType, other.enclosingType);
+        }
+
+        @Override
+        public int hashCode() {
+            return (59 * field.hashCode()) + Objects.hashCode(enclosingType);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Immutable stack of the {@link TypeTag}s whose values are being created, used to detect recursive
+ * datastructures.
+ *
+ * <p>Pushing a tag doesn't change the stack, but returns a new one that shares all existing tags
+ * with it. This makes pushing cheap, no matter how deep the stack is, and lets a caller hand a
+ * stack to several recursive calls in turn without them seeing each other's tags.
+ */
+public final class TypeStack implements Iterable<TypeTag> {
+
+    private static final TypeStack EMPTY = new TypeStack(null, null, 0);
+
+    private final TypeTag top;
+    private final TypeStack rest;
+    private final int size;
+
+    private TypeStack(TypeTag top, TypeStack rest, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    /** @return A stack without any TypeTags. */
+    public static TypeStack empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new stack with the given tag on top of the tags in this one.
+     *
+     * @param tag The tag to push.
+     * @return A new stack; this one is unchanged.
+     */
+    public TypeStack push(TypeTag tag) {
+        return new TypeStack(tag, this, size + 1);
+    }
+
+    /**
+     * @param tag The tag to look for.
+     * @return Whether the tag is somewhere on the stack.
+     */
+    public boolean contains(TypeTag tag) {
+        for (TypeStack s = this; s.size > 0; s = s.rest) {
+            if (s.top.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return The number of tags on the stack. */
+    public int size() {
+        return size;
+    }
+
+    /** @return Whether the stack has no tags. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the tags on the stack, from the bottom to the top: in the order in which they were
+     * pushed.
+     *
+     * @return An unmodifiable list of the tags on the stack.
+     */
+    public List<TypeTag> toList() {
+        TypeTag[] result = new TypeTag[size];
+        int i = size;
+        for (TypeStack s = this; s.size > 0; s = s.rest) {
+            result[--i] = s.top;
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Iterates over the tags from the bottom of the stack to the top.
+     *
+     * @return An iterator over the tags on the stack.
+     */
+    @Override
+    public Iterator<TypeTag> iterator() {
+        return toList().iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "TypeStack " + toList();
+    }
+}
@@ -18,6 +18,7 @@ public final class TypeTag {
 
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
 
     /**
      * Constructor.
@@ -35,6 +36,7 @@ public final class TypeTag {
         }
         this.type = type;
         this.genericTypes = genericTypes;
+        this.cachedHashCode = computeHashCode();
     }
 
     /**
@@ -177,16 +179,27 @@ public final class TypeTag {
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (!(obj instanceof TypeTag)) {
             return false;
         }
         TypeTag other = (TypeTag) obj;
-        return type.equals(other.type) && genericTypes.equals(other.genericTypes);
+        return (
+            cachedHashCode == other.cachedHashCode &&
+            type.equals(other.type) &&
+            genericTypes.equals(other.genericTypes)
+        );
     }
 
     /** {@inheritDoc} */
     @Override
     public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int computeHashCode() {
         int result = 37;
         result = (59 * result) + type.hashCode();
         result = (59 * result) + genericTypes.hashCode();
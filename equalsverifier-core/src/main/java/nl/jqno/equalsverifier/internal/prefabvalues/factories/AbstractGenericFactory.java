@@ -4,10 +4,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -18,13 +18,6 @@ public abstract class AbstractGenericFactory<T> implements PrefabValueFactory<T>
 
     public static final TypeTag OBJECT_TYPE_TAG = new TypeTag(Object.class);
 
-    protected LinkedHashSet<TypeTag> cloneWith(LinkedHashSet<TypeTag> typeStack, TypeTag tag) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>) typeStack.clone();
-        clone.add(tag);
-        return clone;
-    }
-
     protected TypeTag copyGenericTypesInto(Class<?> type, TypeTag source) {
         List<TypeTag> genericTypes = new ArrayList<>();
         for (TypeTag tag : source.getGenericTypes()) {
@@ -37,7 +30,7 @@ public abstract class AbstractGenericFactory<T> implements PrefabValueFactory<T>
         int n,
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         return determineAndCacheActualTypeTag(n, tag, prefabValues, typeStack, null);
     }
@@ -46,7 +39,7 @@ public abstract class AbstractGenericFactory<T> implements PrefabValueFactory<T>
         int n,
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack,
+        TypeStack typeStack,
         Class<?> bottomType
     ) {
         TypeTag result = determineActualTypeTagFor(n, tag);
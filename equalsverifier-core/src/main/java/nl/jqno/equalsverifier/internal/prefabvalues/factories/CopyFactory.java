@@ -1,9 +1,9 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
-import java.util.LinkedHashSet;
 import java.util.function.Function;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 public class CopyFactory<T, S> extends AbstractGenericFactory<T> {
@@ -20,9 +20,9 @@ public class CopyFactory<T, S> extends AbstractGenericFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        TypeStack clone = typeStack.push(tag);
         TypeTag sourceTag = copyGenericTypesInto(source, tag);
         prefabValues.realizeCacheFor(sourceTag, clone);
 
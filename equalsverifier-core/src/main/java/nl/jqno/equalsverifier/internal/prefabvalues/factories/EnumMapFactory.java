@@ -1,11 +1,11 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.function.Function;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -21,9 +21,9 @@ public final class EnumMapFactory<T> extends AbstractGenericFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        TypeStack clone = typeStack.push(tag);
         TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone, Enum.class);
         TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone, Enum.class);
 
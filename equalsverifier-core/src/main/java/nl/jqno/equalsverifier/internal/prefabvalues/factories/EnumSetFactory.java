@@ -2,10 +2,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.function.Function;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -25,9 +25,9 @@ public class EnumSetFactory<T> extends AbstractGenericFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        TypeStack clone = typeStack.push(tag);
         TypeTag entryTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone, Enum.class);
 
         Collection red = new HashSet<>();
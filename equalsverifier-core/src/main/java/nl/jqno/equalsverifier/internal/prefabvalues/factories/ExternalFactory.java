@@ -3,10 +3,10 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.FactoryProvider;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
@@ -17,7 +17,7 @@ public class ExternalFactory<T> implements PrefabValueFactory<T> {
         "nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.";
 
     private final String factoryName;
-    private FactoryCache factoryCache;
+    private volatile FactoryCache factoryCache;
 
     public ExternalFactory(String factoryName) {
         this.factoryName = EXTERNAL_FACTORIES_PACKAGE + factoryName;
@@ -27,7 +27,7 @@ public class ExternalFactory<T> implements PrefabValueFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         if (factoryCache == null) {
             ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
@@ -6,6 +6,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 
 public final class Factories {
 
@@ -17,6 +18,10 @@ public final class Factories {
         return new SimpleFactory<>(red, blue, redCopy);
     }
 
+    public static <T> PrefabValueFactory<T> fresh(Supplier<Tuple<T>> values) {
+        return (tag, prefabValues, typeStack) -> values.get();
+    }
+
     public static <A, T> PrefabValueFactory<T> simple(
         Func1<A, T> factory,
         Supplier<T> emptyFactory
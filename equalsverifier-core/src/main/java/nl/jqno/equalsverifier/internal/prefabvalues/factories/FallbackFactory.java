@@ -3,9 +3,9 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
@@ -22,11 +22,9 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>) typeStack.clone();
-        clone.add(tag);
+        TypeStack clone = typeStack.push(tag);
 
         Class<T> type = tag.getType();
         if (type.isEnum()) {
@@ -58,7 +56,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     private Tuple<T> giveArrayInstances(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         Class<T> type = tag.getType();
         Class<?> componentType = type.getComponentType();
@@ -78,14 +76,14 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     private void traverseFields(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         Class<?> type = tag.getType();
         for (Field field : FieldIterable.of(type)) {
             int modifiers = field.getModifiers();
             boolean isStaticAndFinal = Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers);
             if (!isStaticAndFinal) {
-                prefabValues.realizeCacheFor(TypeTag.of(field, tag), typeStack);
+                prefabValues.realizeCacheFor(prefabValues.tagFor(field, tag), typeStack);
             }
         }
     }
@@ -93,7 +91,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     private Tuple<T> giveInstances(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         ClassAccessor<T> accessor = ClassAccessor.of(tag.getType(), prefabValues);
         T red = accessor.getRedObject(tag, typeStack);
@@ -1,12 +1,12 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Supplier;
 import nl.jqno.equalsverifier.Func;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 public class SimpleGenericFactory<T> extends AbstractGenericFactory<T> {
@@ -23,9 +23,9 @@ public class SimpleGenericFactory<T> extends AbstractGenericFactory<T> {
     public Tuple<T> createValues(
         TypeTag tag,
         PrefabValues prefabValues,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+        TypeStack clone = typeStack.push(tag);
 
         List<Object> redValues = new ArrayList<>();
         List<Object> blueValues = new ArrayList<>();
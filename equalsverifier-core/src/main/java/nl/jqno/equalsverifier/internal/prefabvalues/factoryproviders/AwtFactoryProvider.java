@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders;
 
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.fresh;
 import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
 
 import java.awt.*;
@@ -8,6 +9,7 @@ import java.awt.color.ICC_ColorSpace;
 import java.awt.color.ICC_Profile;
 import java.awt.image.BufferedImage;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 
 public final class AwtFactoryProvider implements FactoryProvider {
 
@@ -50,9 +52,14 @@ public final class AwtFactoryProvider implements FactoryProvider {
                 new Font(Font.SERIF, Font.PLAIN, 10)
             )
         );
-        Image red = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
-        Image blue = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
-        cache.put(Image.class, values(red, blue, red));
+        cache.put(
+            Image.class,
+            fresh(() -> {
+                Image red = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+                Image blue = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+                return new Tuple<>(red, blue, red);
+            })
+        );
 
         return cache;
     }
@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.AbstractGenericFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.EnumMapFactory;
@@ -160,9 +161,9 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         public Tuple<T> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+            TypeStack clone = typeStack.push(tag);
             TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
             TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
 
@@ -190,9 +191,9 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         public Tuple<T> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+            TypeStack clone = typeStack.push(tag);
             TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
             TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
             TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, clone);
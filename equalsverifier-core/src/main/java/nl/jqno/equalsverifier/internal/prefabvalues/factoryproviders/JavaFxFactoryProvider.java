@@ -3,7 +3,6 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders;
 import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.copy;
 import static nl.jqno.equalsverifier.internal.reflection.Util.*;
 
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +10,7 @@ import java.util.function.Function;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.AbstractGenericFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
@@ -112,7 +112,7 @@ public final class JavaFxFactoryProvider implements FactoryProvider {
         public Tuple<T> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
             ConditionalInstantiator ci = new ConditionalInstantiator(fullyQualifiedTypeName);
             TypeTag singleParameterTag = copyGenericTypesInto(parameterRawType, tag);
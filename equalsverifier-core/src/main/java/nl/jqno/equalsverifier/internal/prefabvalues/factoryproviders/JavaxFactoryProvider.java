@@ -1,10 +1,11 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders;
 
-import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.fresh;
 
 import javax.naming.Reference;
 import javax.swing.tree.DefaultMutableTreeNode;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 
 public final class JavaxFactoryProvider implements FactoryProvider {
 
@@ -13,14 +14,18 @@ public final class JavaxFactoryProvider implements FactoryProvider {
 
         cache.put(
             Reference.class,
-            values(new Reference("one"), new Reference("two"), new Reference("one"))
+            fresh(() ->
+                new Tuple<>(new Reference("one"), new Reference("two"), new Reference("one"))
+            )
         );
         cache.put(
             DefaultMutableTreeNode.class,
-            values(
-                new DefaultMutableTreeNode(),
-                new DefaultMutableTreeNode(new Object()),
-                new DefaultMutableTreeNode()
+            fresh(() ->
+                new Tuple<>(
+                    new DefaultMutableTreeNode(),
+                    new DefaultMutableTreeNode(new Object()),
+                    new DefaultMutableTreeNode()
+                )
             )
         );
 
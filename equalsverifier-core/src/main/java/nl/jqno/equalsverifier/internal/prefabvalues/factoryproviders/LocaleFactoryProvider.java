@@ -0,0 +1,99 @@
+package nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders;
+
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.fresh;
+
+import java.text.DateFormat;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Formatter;
+import java.util.GregorianCalendar;
+import java.util.Scanner;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+
+/**
+ * Provides values for JDK classes whose instances need the JDK's locale data. Loading that data
+ * takes longer than building all other Java API prefab values combined, so it's deferred until one
+ * of these classes is actually needed.
+ *
+ * <p>All of these classes are mutable, so new instances are created each time values are needed.
+ */
+public final class LocaleFactoryProvider implements FactoryProvider {
+
+    public FactoryCache getFactoryCache() {
+        FactoryCache cache = new FactoryCache();
+
+        cache.put(
+            Calendar.class,
+            fresh(() ->
+                new Tuple<>(
+                    new GregorianCalendar(2010, Calendar.AUGUST, 4),
+                    new GregorianCalendar(2010, Calendar.AUGUST, 5),
+                    new GregorianCalendar(2010, Calendar.AUGUST, 4)
+                )
+            )
+        );
+        cache.put(
+            GregorianCalendar.class,
+            fresh(() ->
+                new Tuple<>(
+                    new GregorianCalendar(2010, Calendar.AUGUST, 4),
+                    new GregorianCalendar(2010, Calendar.AUGUST, 5),
+                    new GregorianCalendar(2010, Calendar.AUGUST, 4)
+                )
+            )
+        );
+        cache.put(
+            DateFormat.class,
+            fresh(() ->
+                new Tuple<>(
+                    DateFormat.getTimeInstance(),
+                    DateFormat.getDateInstance(),
+                    DateFormat.getTimeInstance()
+                )
+            )
+        );
+        cache.put(
+            DecimalFormat.class,
+            fresh(() ->
+                new Tuple<>(
+                    new DecimalFormat("x0.0"),
+                    new DecimalFormat("y0.0"),
+                    new DecimalFormat("x0.0")
+                )
+            )
+        );
+        cache.put(
+            NumberFormat.class,
+            fresh(() ->
+                new Tuple<>(
+                    new DecimalFormat("x0.0"),
+                    new DecimalFormat("y0.0"),
+                    new DecimalFormat("x0.0")
+                )
+            )
+        );
+        cache.put(
+            SimpleDateFormat.class,
+            fresh(() ->
+                new Tuple<>(
+                    new SimpleDateFormat("yMd"),
+                    new SimpleDateFormat("dMy"),
+                    new SimpleDateFormat("yMd")
+                )
+            )
+        );
+        cache.put(
+            Formatter.class,
+            fresh(() -> new Tuple<>(new Formatter(), new Formatter(), new Formatter()))
+        );
+        cache.put(
+            Scanner.class,
+            fresh(() -> new Tuple<>(new Scanner("one"), new Scanner("two"), new Scanner("one")))
+        );
+
+        return cache;
+    }
+}
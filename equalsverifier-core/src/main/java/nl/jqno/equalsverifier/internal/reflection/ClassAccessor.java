@@ -4,10 +4,10 @@ import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.NonnullAnnotationVerifier;
@@ -23,6 +23,7 @@ public class ClassAccessor<T> {
 
     private final Class<T> type;
     private final PrefabValues prefabValues;
+    private Instantiator<T> instantiator;
 
     /** Private constructor. Call {@link #of(Class, PrefabValues)} instead. */
     ClassAccessor(Class<T> type, PrefabValues prefabValues) {
@@ -195,7 +196,7 @@ public class ClassAccessor<T> {
      * @param typeStack Keeps track of recursion in the type.
      * @return An instance of T.
      */
-    public T getRedObject(TypeTag enclosingType, LinkedHashSet<TypeTag> typeStack) {
+    public T getRedObject(TypeTag enclosingType, TypeStack typeStack) {
         return getRedAccessor(enclosingType, typeStack).get();
     }
 
@@ -207,7 +208,7 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getRedObject(TypeTag)}.
      */
     public ObjectAccessor<T> getRedAccessor(TypeTag enclosingType) {
-        return getRedAccessor(enclosingType, new LinkedHashSet<>());
+        return getRedAccessor(enclosingType, TypeStack.empty());
     }
 
     /**
@@ -220,7 +221,7 @@ public class ClassAccessor<T> {
      */
     public ObjectAccessor<T> getRedAccessor(
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         return buildObjectAccessor().scramble(prefabValues, enclosingType, typeStack);
     }
@@ -246,7 +247,7 @@ public class ClassAccessor<T> {
      * @param typeStack Keeps track of recursion in the type.
      * @return An instance of T.
      */
-    public T getBlueObject(TypeTag enclosingType, LinkedHashSet<TypeTag> typeStack) {
+    public T getBlueObject(TypeTag enclosingType, TypeStack typeStack) {
         return getBlueAccessor(enclosingType, typeStack).get();
     }
 
@@ -258,7 +259,7 @@ public class ClassAccessor<T> {
      * @return An {@link ObjectAccessor} for {@link #getBlueObject(TypeTag)}.
      */
     public ObjectAccessor<T> getBlueAccessor(TypeTag enclosingType) {
-        return getBlueAccessor(enclosingType, new LinkedHashSet<>());
+        return getBlueAccessor(enclosingType, TypeStack.empty());
     }
 
     /**
@@ -271,7 +272,7 @@ public class ClassAccessor<T> {
      */
     public ObjectAccessor<T> getBlueAccessor(
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         return buildObjectAccessor()
             .scramble(prefabValues, enclosingType, typeStack)
@@ -332,7 +333,10 @@ public class ClassAccessor<T> {
     }
 
     private ObjectAccessor<T> buildObjectAccessor() {
-        T object = Instantiator.of(type).instantiate();
+        if (instantiator == null) {
+            instantiator = Instantiator.of(type);
+        }
+        T object = instantiator.instantiate();
         return ObjectAccessor.of(object);
     }
 }
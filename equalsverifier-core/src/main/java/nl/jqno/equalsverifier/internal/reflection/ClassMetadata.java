@@ -0,0 +1,131 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflective information about a class that is expensive to compute, but that never changes.
+ *
+ * <p>It is computed only once per class. Instances are stored in a {@link ClassValue}, which
+ * doesn't prevent classes, or the ClassLoaders that loaded them, from being garbage collected.
+ */
+final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Field> declaredFields;
+    private final List<Field> declaredInstanceFields;
+    private final List<Field> allFields;
+    private final List<Field> allInstanceFields;
+    private final ConcurrentMap<Field, FieldHandle> handles = new ConcurrentHashMap<>();
+    private volatile FieldHandles fieldHandles;
+
+    /** Private constructor. Call {@link #of(Class)} instead. */
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        List<Field> instanceFields = new ArrayList<>();
+        List<Field> staticFields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (
+                !field.isSynthetic() &&
+                !"__cobertura_counters".equals(field.getName()) &&
+                !field.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
+            ) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    staticFields.add(field);
+                } else {
+                    instanceFields.add(field);
+                }
+            }
+        }
+
+        List<Field> declared = new ArrayList<>(instanceFields);
+        declared.addAll(staticFields);
+        this.declaredFields = Collections.unmodifiableList(declared);
+        this.declaredInstanceFields = Collections.unmodifiableList(instanceFields);
+
+        Class<?> superclass = type.getSuperclass();
+        if (superclass == null || superclass.equals(Object.class)) {
+            this.allFields = declaredFields;
+            this.allInstanceFields = declaredInstanceFields;
+        } else {
+            ClassMetadata superMetadata = of(superclass);
+            this.allFields = concat(declaredFields, superMetadata.allFields);
+            this.allInstanceFields =
+                concat(declaredInstanceFields, superMetadata.allInstanceFields);
+        }
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class for which we need metadata.
+     * @return The (cached) metadata for {@code type}.
+     */
+    public static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns the fields of the class, excluding synthetic fields and fields generated by tools
+     * such as Cobertura and Scala. Instance fields come first, followed by static fields.
+     *
+     * @param includeSuperclasses Whether to include the fields of all superclasses (except {@link
+     *     Object}), after the class's own fields.
+     * @param includeStatic Whether to include static fields.
+     * @return An unmodifiable list of fields.
+     */
+    public List<Field> fields(boolean includeSuperclasses, boolean includeStatic) {
+        if (includeSuperclasses) {
+            return includeStatic ? allFields : allInstanceFields;
+        }
+        return includeStatic ? declaredFields : declaredInstanceFields;
+    }
+
+    /**
+     * Returns the {@link FieldHandle} for one of the fields declared by this class.
+     *
+     * @param field A field declared by the class.
+     * @return The (cached) {@link FieldHandle} for {@code field}.
+     */
+    public FieldHandle handleFor(Field field) {
+        FieldHandle result = handles.get(field);
+        if (result == null) {
+            result = handles.computeIfAbsent(field, FieldHandle::new);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link FieldHandles} that access all instance fields of this class and its
+     * superclasses at once.
+     *
+     * @return The (cached) {@link FieldHandles} for this class.
+     */
+    public FieldHandles fieldHandles() {
+        FieldHandles result = fieldHandles;
+        if (result == null) {
+            result = FieldHandles.create(type);
+            fieldHandles = result;
+        }
+        return result;
+    }
+
+    private static List<Field> concat(List<Field> first, List<Field> second) {
+        List<Field> result = new ArrayList<>(first.size() + second.size());
+        result.addAll(first);
+        result.addAll(second);
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -1,7 +1,5 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -76,13 +74,8 @@ public final class FieldAccessor {
      * @return The field's value.
      * @throws ReflectionException If the operation fails.
      */
-    @SuppressFBWarnings(
-        value = "DP_DO_INSIDE_DO_PRIVILEGED",
-        justification = "Only called in test code, not production."
-    )
     public Object get(Object object) {
-        field.setAccessible(true);
-        return rethrow(() -> field.get(object));
+        return FieldHandle.of(field).get(object);
     }
 
     /**
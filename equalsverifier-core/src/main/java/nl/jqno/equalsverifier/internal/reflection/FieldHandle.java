@@ -0,0 +1,256 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import nl.jqno.equalsverifier.internal.util.StatisticsRecorder;
+
+/**
+ * Reads and writes a single field through {@link MethodHandle}s instead of through {@link
+ * Field#get(Object)} and {@link Field#set(Object, Object)}.
+ *
+ * <p>The handles are created once per field, the first time they're needed, and are cached
+ * alongside the declaring class's {@link ClassMetadata}. Copying a field and setting it to its
+ * default value are done through handles that keep the field's own type, so primitive values are
+ * never boxed on those paths.
+ *
+ * <p>Errors are reported the same way reflection reports them: a value or object of the wrong type
+ * results in an {@link IllegalArgumentException} whose message starts with "Can not set".
+ */
+final class FieldHandle {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(
+        void.class,
+        Object.class,
+        Object.class
+    );
+    private static final MethodType COPIER_TYPE = SETTER_TYPE;
+    private static final MethodType DEFAULTER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Field field;
+    private final boolean isStatic;
+    private final boolean canBeModifiedReflectively;
+    private volatile MethodHandle getter;
+    private volatile Setters setters;
+
+    /** Package-private constructor. Call {@link #of(Field)} to instantiate. */
+    /* default */FieldHandle(Field field) {
+        this.field = field;
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.canBeModifiedReflectively = FieldAccessor.of(field).canBeModifiedReflectively();
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param field The field to access.
+     * @return The (cached) {@link FieldHandle} for {@code field}.
+     */
+    public static FieldHandle of(Field field) {
+        return ClassMetadata.of(field.getDeclaringClass()).handleFor(field);
+    }
+
+    /** @return The field itself. */
+    public Field getField() {
+        return field;
+    }
+
+    /** @return Whether the field is marked with the static modifier. */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /** @return Whether or not the field can be modified reflectively. */
+    public boolean canBeModifiedReflectively() {
+        return canBeModifiedReflectively;
+    }
+
+    /**
+     * Gets the field's value.
+     *
+     * @param object The object that contains the field. Ignored for static fields.
+     * @return The field's value, boxed if it's a primitive.
+     */
+    public Object get(Object object) {
+        try {
+            return (Object) getter().invokeExact(object);
+        } catch (ClassCastException e) {
+            throw cannotSet(object, e);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Sets the field to the given value.
+     *
+     * @param object The object that contains the field. Ignored for static fields.
+     * @param value The value that the field should get.
+     */
+    public void set(Object object, Object value) {
+        if (value == null && field.getType().isPrimitive()) {
+            throw cannotSet(null, null);
+        }
+        StatisticsRecorder.fieldsWritten(1);
+        try {
+            setters().setter.invokeExact(object, value);
+        } catch (ClassCastException e) {
+            throw cannotSet(value, e);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Sets the field to its default value: null, or 0, or false.
+     *
+     * @param object The object that contains the field. Ignored for static fields.
+     */
+    public void setToDefault(Object object) {
+        StatisticsRecorder.fieldsWritten(1);
+        try {
+            setters().defaulter.invokeExact(object);
+        } catch (ClassCastException e) {
+            throw cannotSet(object, e);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Copies the field's value from one object into the other.
+     *
+     * @param from The object to copy the field's value from.
+     * @param to The object to copy the field's value into.
+     */
+    public void copy(Object from, Object to) {
+        StatisticsRecorder.fieldsWritten(1);
+        try {
+            setters().copier.invokeExact(to, from);
+        } catch (ClassCastException e) {
+            throw cannotSet(to, e);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * @return A handle of type {@code (Object to, Object from)void} that copies the field's value.
+     * @throws ReflectionException If the field can't be modified.
+     */
+    /* default */MethodHandle copier() {
+        return setters().copier;
+    }
+
+    /**
+     * @return A handle of type {@code (Object)void} that sets the field to its default value.
+     * @throws ReflectionException If the field can't be modified.
+     */
+    /* default */MethodHandle defaulter() {
+        return setters().defaulter;
+    }
+
+    private MethodHandle getter() {
+        MethodHandle result = getter;
+        if (result == null) {
+            result = typedGetter().asType(GETTER_TYPE);
+            getter = result;
+        }
+        return result;
+    }
+
+    private Setters setters() {
+        Setters result = setters;
+        if (result == null) {
+            if (!canBeModifiedReflectively) {
+                throw new ReflectionException("Field " + field.getName() + " can't be modified.");
+            }
+            result = createSetters();
+            setters = result;
+        }
+        return result;
+    }
+
+    private Setters createSetters() {
+        MethodHandle typedGetter = typedGetter();
+        MethodHandle typedSetter = unreflect(true);
+        Object defaultValue = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(field.getType());
+        return new Setters(
+            typedSetter.asType(SETTER_TYPE),
+            MethodHandles.filterArguments(typedSetter, 1, typedGetter).asType(COPIER_TYPE),
+            MethodHandles.insertArguments(typedSetter, 1, defaultValue).asType(DEFAULTER_TYPE)
+        );
+    }
+
+    private MethodHandle typedGetter() {
+        return unreflect(false);
+    }
+
+    @SuppressFBWarnings(
+        value = "DP_DO_INSIDE_DO_PRIVILEGED",
+        justification = "EqualsVerifier needs to access private fields."
+    )
+    private MethodHandle unreflect(boolean setter) {
+        field.setAccessible(true);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = setter
+                ? lookup.unreflectSetter(field)
+                : lookup.unreflectGetter(field);
+            return receiverAsObject(handle);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private MethodHandle receiverAsObject(MethodHandle handle) {
+        if (isStatic) {
+            return MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+    private IllegalArgumentException cannotSet(Object value, Throwable cause) {
+        IllegalArgumentException result = new IllegalArgumentException(
+            "Can not set " +
+            field.getType().getName() +
+            " field " +
+            field.getDeclaringClass().getName() +
+            "." +
+            field.getName() +
+            " to " +
+            (value == null ? "null value" : value.getClass().getName())
+        );
+        result.initCause(cause);
+        return result;
+    }
+
+    /* default */static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new ReflectionException(e);
+    }
+
+    private static final class Setters {
+
+        private final MethodHandle setter;
+        private final MethodHandle copier;
+        private final MethodHandle defaulter;
+
+        private Setters(MethodHandle setter, MethodHandle copier, MethodHandle defaulter) {
+            this.setter = setter;
+            this.copier = copier;
+            this.defaulter = defaulter;
+        }
+    }
+}
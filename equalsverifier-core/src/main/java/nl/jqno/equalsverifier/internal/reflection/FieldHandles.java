@@ -0,0 +1,137 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import nl.jqno.equalsverifier.internal.util.StatisticsRecorder;
+
+/**
+ * Copies or clears all instance fields of an object in a single call.
+ *
+ * <p>The per-field handles of {@link FieldHandle} are folded into one {@link MethodHandle} per
+ * class, which runs all of them in field order. This replaces a loop that looks up and invokes
+ * each field's handle separately.
+ *
+ * <p>If a handle can't be created for one of the fields, for instance because the module system
+ * doesn't open it, the class is marked as unsupported and callers should fall back to modifying
+ * the fields one by one, which reports the problem for the specific field.
+ *
+ * <p>Bulk access can be switched off for the whole JVM by setting the system property {@value
+ * #ENABLED_PROPERTY} to {@code false}, in which case all classes are treated as unsupported. This
+ * is useful when the composed handles misbehave for a particular kind of class, such as hidden
+ * classes or classes generated at runtime.
+ */
+final class FieldHandles {
+
+    /** The system property that switches bulk field access on (the default) or off. */
+    public static final String ENABLED_PROPERTY = "equalsverifier.bulkFieldAccess";
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(
+        System.getProperty(ENABLED_PROPERTY)
+    );
+    private static final FieldHandles UNSUPPORTED = new FieldHandles(null, null, 0);
+
+    private final MethodHandle copier;
+    private final MethodHandle defaulter;
+    private final int fieldCount;
+
+    /** Private constructor. Call {@link #of(Class)} to instantiate. */
+    private FieldHandles(MethodHandle copier, MethodHandle defaulter, int fieldCount) {
+        this.copier = copier;
+        this.defaulter = defaulter;
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class whose fields we want to access.
+     * @return The (cached) {@link FieldHandles} for {@code type}.
+     */
+    public static FieldHandles of(Class<?> type) {
+        return ClassMetadata.of(type).fieldHandles();
+    }
+
+    /* default */static FieldHandles create(Class<?> type) {
+        return create(type, ENABLED);
+    }
+
+    /* default */static FieldHandles create(Class<?> type, boolean enabled) {
+        if (!enabled) {
+            return UNSUPPORTED;
+        }
+
+        List<FieldHandle> handles = new ArrayList<>();
+        for (Field field : FieldIterable.ofIgnoringStatic(type)) {
+            FieldHandle handle = FieldHandle.of(field);
+            if (handle.canBeModifiedReflectively()) {
+                handles.add(handle);
+            }
+        }
+        if (handles.isEmpty()) {
+            return UNSUPPORTED;
+        }
+
+        try {
+            return new FieldHandles(
+                fold(handles, FieldHandle::copier),
+                fold(handles, FieldHandle::defaulter),
+                handles.size()
+            );
+        } catch (RuntimeException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    private static MethodHandle fold(
+        List<FieldHandle> handles,
+        Function<FieldHandle, MethodHandle> select
+    ) {
+        MethodHandle result = select.apply(handles.get(handles.size() - 1));
+        for (int i = handles.size() - 2; i >= 0; i--) {
+            result = MethodHandles.foldArguments(result, select.apply(handles.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * @return Whether the fields can be accessed in bulk. If not, callers should access the fields
+     *     one by one.
+     */
+    public boolean isSupported() {
+        return copier != null;
+    }
+
+    /**
+     * Copies the values of all instance fields that can be modified from one object into the
+     * other.
+     *
+     * @param from The object to copy the values from.
+     * @param to The object to copy the values into. Must be of the same class, or of a subclass.
+     */
+    public void copy(Object from, Object to) {
+        StatisticsRecorder.fieldsWritten(fieldCount);
+        try {
+            copier.invokeExact(to, from);
+        } catch (Throwable e) {
+            throw FieldHandle.propagate(e);
+        }
+    }
+
+    /**
+     * Sets all instance fields that can be modified to their default values: null, or 0, or false.
+     *
+     * @param object The object whose fields to clear.
+     */
+    public void clear(Object object) {
+        StatisticsRecorder.fieldsWritten(fieldCount);
+        try {
+            defaulter.invokeExact(object);
+        } catch (Throwable e) {
+            throw FieldHandle.propagate(e);
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed, over all declared fields
@@ -63,46 +60,6 @@ public final class FieldIterable implements Iterable<Field> {
      */
     @Override
     public Iterator<Field> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<Field> createFieldList() {
-        List<Field> result = new ArrayList<>();
-
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
-
-        return result;
-    }
-
-    private List<Field> addFieldsFor(Class<?> c) {
-        List<Field> fields = new ArrayList<>();
-        List<Field> statics = new ArrayList<>();
-
-        for (Field field : c.getDeclaredFields()) {
-            if (
-                !field.isSynthetic() &&
-                !"__cobertura_counters".equals(field.getName()) &&
-                !field.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
-            ) {
-                boolean isStatic = Modifier.isStatic(field.getModifiers());
-                if (isStatic && includeStatic) {
-                    statics.add(field);
-                }
-                if (!isStatic) {
-                    fields.add(field);
-                }
-            }
-        }
-
-        List<Field> result = new ArrayList<>();
-        result.addAll(fields);
-        result.addAll(statics);
-        return result;
+        return ClassMetadata.of(type).fields(includeSuperclasses, includeStatic).iterator();
     }
 }
@@ -1,22 +1,19 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
-
 import java.lang.reflect.Field;
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
-import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
 
 public final class FieldModifier {
 
-    private final Field field;
+    private final FieldHandle handle;
     private final Object object;
 
     /** Private constructor. Call {@link #of(Field, Object)} to instantiate. */
-    private FieldModifier(Field field, Object object) {
-        this.field = field;
+    private FieldModifier(FieldHandle handle, Object object) {
+        this.handle = handle;
         this.object = object;
     }
 
@@ -28,7 +25,7 @@ public final class FieldModifier {
      * @return A {@link FieldModifier} for {@link field} in {@link object}.
      */
     public static FieldModifier of(Field field, Object object) {
-        return new FieldModifier(field, object);
+        return new FieldModifier(FieldHandle.of(field), object);
     }
 
     /**
@@ -40,7 +37,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void set(Object value) {
-        change(() -> field.set(object, value), true);
+        change(() -> handle.set(object, value), true);
     }
 
     /**
@@ -50,7 +47,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void defaultField() {
-        change(this::setFieldToDefault, false);
+        change(() -> handle.setToDefault(object), false);
     }
 
     /**
@@ -60,12 +57,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void defaultStaticField() {
-        change(this::setFieldToDefault, true);
-    }
-
-    private void setFieldToDefault() throws IllegalAccessException {
-        Class<?> type = field.getType();
-        field.set(object, PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(type));
+        change(() -> handle.setToDefault(object), true);
     }
 
     /**
@@ -77,7 +69,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void copyTo(Object to) {
-        change(() -> field.set(to, field.get(object)), false);
+        change(() -> handle.copy(object, to), false);
     }
 
     /**
@@ -93,7 +85,7 @@ public final class FieldModifier {
      * @throws ReflectionException If the operation fails.
      */
     public void changeField(PrefabValues prefabValues, TypeTag enclosingType) {
-        changeField(prefabValues, enclosingType, new LinkedHashSet<>());
+        changeField(prefabValues, enclosingType, TypeStack.empty());
     }
 
     /**
@@ -112,30 +104,28 @@ public final class FieldModifier {
     public void changeField(
         PrefabValues prefabValues,
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         FieldChanger fm = () -> {
-            TypeTag tag = TypeTag.of(field, enclosingType);
-            Object newValue = prefabValues.giveOther(tag, field.get(object), typeStack);
-            field.set(object, newValue);
+            TypeTag tag = prefabValues.tagFor(handle.getField(), enclosingType);
+            Object newValue = prefabValues.giveOther(tag, handle.get(object), typeStack);
+            handle.set(object, newValue);
         };
         change(fm, false);
     }
 
     private void change(FieldChanger changer, boolean includeStatic) {
-        FieldAccessor accessor = FieldAccessor.of(field);
-        if (!accessor.canBeModifiedReflectively()) {
+        if (!handle.canBeModifiedReflectively()) {
             return;
         }
-        if (!includeStatic && accessor.fieldIsStatic()) {
+        if (!includeStatic && handle.isStatic()) {
             return;
         }
 
-        field.setAccessible(true);
-        rethrow(() -> wrappedChange(changer));
+        wrappedChange(changer);
     }
 
-    private void wrappedChange(FieldChanger changer) throws IllegalAccessException {
+    private void wrappedChange(FieldChanger changer) {
         try {
             changer.change();
         } catch (IllegalArgumentException e) {
@@ -152,6 +142,6 @@ public final class FieldModifier {
 
     @FunctionalInterface
     private interface FieldChanger {
-        void change() throws IllegalAccessException;
+        void change();
     }
 }
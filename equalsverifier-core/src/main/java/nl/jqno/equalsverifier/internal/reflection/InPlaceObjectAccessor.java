@@ -1,11 +1,11 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.util.LinkedHashSet;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import nl.jqno.equalsverifier.internal.exceptions.ModuleException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -42,6 +42,12 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
     }
 
     private <S> S copyInto(S copy) {
+        FieldHandles handles = FieldHandles.of(type());
+        if (handles.isSupported()) {
+            handles.copy(get(), copy);
+            return copy;
+        }
+
         for (Field field : FieldIterable.of(type())) {
             fieldModifierFor(field).copyTo(copy);
         }
@@ -53,7 +59,7 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
     public ObjectAccessor<T> scramble(
         PrefabValues prefabValues,
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         return scrambleInternal(prefabValues, enclosingType, typeStack, FieldIterable::of);
     }
@@ -64,7 +70,7 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
         return scrambleInternal(
             prefabValues,
             enclosingType,
-            new LinkedHashSet<>(),
+            TypeStack.empty(),
             FieldIterable::ofIgnoringSuper
         );
     }
@@ -72,7 +78,7 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
     private ObjectAccessor<T> scrambleInternal(
         PrefabValues prefabValues,
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack,
+        TypeStack typeStack,
         Function<Class<?>, FieldIterable> it
     ) {
         for (Field field : it.apply(type())) {
@@ -119,9 +125,17 @@ final class InPlaceObjectAccessor<T> extends ObjectAccessor<T> {
         PrefabValues prefabValues,
         TypeTag enclosingType
     ) {
+        FieldHandles handles = FieldHandles.of(type());
+        boolean clearedInBulk = handles.isSupported();
+        if (clearedInBulk) {
+            handles.clear(get());
+        }
+
         for (Field field : FieldIterable.of(type())) {
             FieldModifier modifier = fieldModifierFor(field);
-            modifier.defaultField();
+            if (!clearedInBulk) {
+                modifier.defaultField();
+            }
             if (!canBeDefault.test(field)) {
                 modifier.changeField(prefabValues, enclosingType);
             }
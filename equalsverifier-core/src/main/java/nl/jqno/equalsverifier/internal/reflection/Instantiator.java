@@ -8,12 +8,20 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.function.UnaryOperator;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderHelper;
 import nl.jqno.equalsverifier.internal.util.ObjenesisWrapper;
+import nl.jqno.equalsverifier.internal.util.StatisticsRecorder;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 /**
  * Instantiates objects of a given class.
@@ -32,7 +40,16 @@ public final class Instantiator<T> {
     );
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
 
+    /*
+     * Both caches are ClassValues, so they don't prevent classes, or the ClassLoaders that loaded
+     * them, from being garbage collected. A ClassValue can't be cleared, so resetCaches() replaces
+     * them with new ones.
+     */
+    private static volatile DynamicSubclassCache dynamicSubclasses = new DynamicSubclassCache();
+    private static volatile InstantiatorCache instantiators = new InstantiatorCache();
+
     private final Class<T> type;
+    private volatile ObjectInstantiator<T> objectInstantiator;
 
     /** Private constructor. Call {@link #of(Class)} to instantiate. */
     private Instantiator(Class<T> type) {
@@ -42,11 +59,19 @@ public final class Instantiator<T> {
     /**
      * Factory method.
      *
+     * <p>Instantiators are cached, so the concrete class to instantiate is determined only once for
+     * each type.
+     *
      * @param <T> The class on which {@link Instantiator} operates.
      * @param type The class on which {@link Instantiator} operates. Should be the same as T.
      * @return An {@link Instantiator} for {@link #type}.
      */
+    @SuppressWarnings("unchecked")
     public static <T> Instantiator<T> of(Class<T> type) {
+        return (Instantiator<T>) instantiators.get(type);
+    }
+
+    private static <T> Instantiator<T> resolve(Class<T> type) {
         if (SealedTypesHelper.isSealed(type)) {
             Class<T> concrete = SealedTypesHelper.findInstantiableSubclass(type).get();
             return Instantiator.of(concrete);
@@ -66,7 +91,13 @@ public final class Instantiator<T> {
      * @return An object of type T.
      */
     public T instantiate() {
-        return ObjenesisWrapper.getObjenesis().newInstance(type);
+        ObjectInstantiator<T> oi = objectInstantiator;
+        if (oi == null) {
+            oi = ObjenesisWrapper.getObjenesis().getInstantiatorOf(type);
+            objectInstantiator = oi;
+        }
+        StatisticsRecorder.objectInstantiated();
+        return oi.newInstance();
     }
 
     /**
@@ -76,17 +107,95 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type, "", b -> b);
-        return ObjenesisWrapper.getObjenesis().newInstance(proxyClass);
+        return Instantiator.of(proxyClass).instantiate();
     }
 
+    /**
+     * Returns a dynamically generated subclass of {@code superclass}. Subclasses are generated only
+     * once for each combination of superclass and name suffix; after that, they are taken from a
+     * cache. Different subclasses can be generated concurrently.
+     *
+     * <p>Threads that need a subclass that another thread is currently generating, wait for it
+     * without holding a monitor, so virtual threads don't pin their carrier thread while waiting.
+     *
+     * @param <S> The type of the superclass.
+     * @param superclass The class to generate a subclass for.
+     * @param nameSuffix Distinguishes between subclasses of the same superclass that are modified
+     *     differently.
+     * @param modify Modifies the subclass before it is generated.
+     * @return A subclass of {@code superclass}.
+     */
     @SuppressWarnings("unchecked")
-    public static synchronized <S> Class<S> giveDynamicSubclass(
+    public static <S> Class<S> giveDynamicSubclass(
         Class<S> superclass,
         String nameSuffix,
         UnaryOperator<DynamicType.Builder<S>> modify
     ) {
         boolean isSystemClass = isSystemClass(superclass.getName());
+        Class<?> context = isSystemClass ? Instantiator.class : superclass;
+
+        ConcurrentMap<String, FutureTask<Class<?>>> cache = dynamicSubclasses.get(superclass);
+        FutureTask<Class<?>> task = cache.get(nameSuffix);
+        if (task == null) {
+            FutureTask<Class<?>> newTask = new FutureTask<>(() ->
+                generateDynamicSubclass(superclass, nameSuffix, modify, context)
+            );
+            task = cache.putIfAbsent(nameSuffix, newTask);
+            if (task == null) {
+                task = newTask;
+                Runnable endEvent = FlightRecorderHelper.beginDynamicSubclassGeneration(
+                    superclass,
+                    nameSuffix
+                );
+                try {
+                    task.run();
+                } finally {
+                    endEvent.run();
+                }
+                StatisticsRecorder.dynamicSubclassGenerated();
+            }
+        }
+        return (Class<S>) awaitDynamicSubclass(cache, nameSuffix, task);
+    }
+
+    private static Class<?> awaitDynamicSubclass(
+        ConcurrentMap<String, FutureTask<Class<?>>> cache,
+        String nameSuffix,
+        FutureTask<Class<?>> task
+    ) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionException("Interrupted while generating a subclass.", e);
+        } catch (ExecutionException e) {
+            // Don't cache failures; a later attempt may succeed.
+            cache.remove(nameSuffix, task);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ReflectionException(cause);
+        }
+    }
+
+    /** Clears the caches of instantiators and generated subclasses. */
+    public static void resetCaches() {
+        instantiators = new InstantiatorCache();
+        dynamicSubclasses = new DynamicSubclassCache();
+    }
 
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> generateDynamicSubclass(
+        Class<S> superclass,
+        String nameSuffix,
+        UnaryOperator<DynamicType.Builder<S>> modify,
+        Class<?> context
+    ) {
+        boolean isSystemClass = context != superclass;
         String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
         String name =
             namePrefix +
@@ -96,10 +205,9 @@ public final class Instantiator<T> {
             Integer.toHexString(superclass.hashCode()) +
             "$" +
             nameSuffix;
-
-        Class<?> context = isSystemClass ? Instantiator.class : superclass;
         ClassLoader classLoader = context.getClassLoader();
 
+        // The class may have been generated before the cache was last reset.
         // `mvn quarkus:dev` does strange classloader stuff. We need to make sure that we
         // check existence with the correct classloader. I don't know how to unit test this.
         Class<S> existsAlready = (Class<S>) classForName(classLoader, name);
@@ -149,4 +257,23 @@ public final class Instantiator<T> {
         }
         return false;
     }
+
+    /** The Instantiator for each type. */
+    private static final class InstantiatorCache extends ClassValue<Instantiator<?>> {
+
+        @Override
+        protected Instantiator<?> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    }
+
+    /** The generated subclasses of each superclass, by name suffix. */
+    private static final class DynamicSubclassCache
+        extends ClassValue<ConcurrentMap<String, FutureTask<Class<?>>>> {
+
+        @Override
+        protected ConcurrentMap<String, FutureTask<Class<?>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
 }
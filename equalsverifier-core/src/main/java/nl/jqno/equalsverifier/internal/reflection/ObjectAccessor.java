@@ -1,9 +1,9 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.util.LinkedHashSet;
 import java.util.function.Predicate;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 /**
@@ -133,7 +133,7 @@ public abstract class ObjectAccessor<T> {
     public abstract ObjectAccessor<T> scramble(
         PrefabValues prefabValues,
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     );
 
     /**
@@ -3,15 +3,56 @@ package nl.jqno.equalsverifier.internal.reflection;
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
 import java.io.File;
+import java.net.JarURLConnection;
 import java.net.URL;
-import java.util.Arrays;
+import java.security.CodeSource;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 
-/** Scans a package for classes. */
+/**
+ * Scans a package for classes.
+ *
+ * <p>The package can live in a directory, in a JAR file, or in several of those at once: all
+ * locations where the ClassLoader can find the package are scanned. Classes inside a JAR file,
+ * including JARs nested in other archives if the ClassLoader supports those, are found by reading
+ * the JAR's central directory; nothing is extracted. Some JARs don't have entries for their
+ * directories, so the ClassLoader can't find the package in them. If the package can't be found
+ * anywhere, the JARs on the class path, and the JAR that contains {@code mustExtend}, are searched
+ * for it instead. Locations that are neither a directory nor a JAR file, such as JBoss VFS or the
+ * JDK's runtime image, are not supported.
+ *
+ * <p>Directories are walked in parallel on the common {@link ForkJoinPool}, one task per
+ * directory. The class names are returned in alphabetical order, so the result doesn't depend on
+ * the order in which the tasks finish.
+ *
+ * <p>Candidates are filtered on their class file before they are loaded, and the classes that
+ * remain are loaded without being initialized, so static initializers of classes that aren't
+ * returned never run.
+ */
 public final class PackageScanner {
 
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
     /** Should not be instantiated. */
     private PackageScanner() {}
 
@@ -31,24 +72,100 @@ public final class PackageScanner {
         Class<?> mustExtend,
         boolean scanRecursively
     ) {
-        return getDirs(packageName)
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        TypePool pool = TypePool.Default.of(cl);
+        return getClassNames(cl, packageName, mustExtend, scanRecursively)
+            .filter(n -> isCandidate(pool, n, mustExtend))
+            .map(n -> nameToClass(cl, n))
+            .filter(c -> !c.isAnonymousClass())
+            .filter(c -> !c.isLocalClass())
+            .filter(c -> !c.getName().endsWith("Test"))
+            .filter(c ->
+                mustExtend == null || (mustExtend.isAssignableFrom(c) && !mustExtend.equals(c))
+            )
+            .collect(Collectors.toList());
+    }
+
+    private static Stream<String> getClassNames(
+        ClassLoader cl,
+        String packageName,
+        Class<?> mustExtend,
+        boolean scanRecursively
+    ) {
+        Queue<String> result = new ConcurrentLinkedQueue<>();
+        List<ForkJoinTask<?>> scans = getRoots(cl, packageName, mustExtend)
             .stream()
-            .flatMap(d -> getClassesInDir(packageName, d, mustExtend, scanRecursively).stream())
+            .map(r -> scan(packageName, r, scanRecursively, result))
             .collect(Collectors.toList());
+        ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(scans)));
+        return result.stream().sorted();
     }
 
-    private static List<File> getDirs(String packageName) {
-        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+    private static List<URL> getRoots(ClassLoader cl, String packageName, Class<?> mustExtend) {
         String path = packageName.replace('.', '/');
-        return rethrow(
-            () ->
-                Collections
-                    .list(cl.getResources(path))
-                    .stream()
-                    .map(r -> new File(getResourcePath(r)))
-                    .collect(Collectors.toList()),
+        List<URL> roots = rethrow(
+            () -> Collections.list(cl.getResources(path)),
+            e -> "Could not scan package " + packageName
+        );
+        return roots.isEmpty() ? getJarRoots(cl, packageName, mustExtend) : roots;
+    }
+
+    /*
+     * Finds the JARs that might contain the package even though the ClassLoader can't find it,
+     * because they don't have an entry for its directory: the JARs on the class path, which we
+     * recognise by their manifest, and the JAR that contains mustExtend.
+     */
+    private static List<URL> getJarRoots(ClassLoader cl, String packageName, Class<?> mustExtend) {
+        Map<String, URL> result = new LinkedHashMap<>();
+        rethrow(
+            () -> {
+                for (URL manifest : Collections.list(cl.getResources(MANIFEST))) {
+                    addJarRoot(result, manifest);
+                }
+                CodeSource codeSource = mustExtend == null
+                    ? null
+                    : mustExtend.getProtectionDomain().getCodeSource();
+                if (codeSource != null && codeSource.getLocation() != null) {
+                    URL location = codeSource.getLocation();
+                    if (location.getPath().endsWith(".jar")) {
+                        addJarRoot(result, new URL("jar:" + location + "!/"));
+                    }
+                }
+            },
             e -> "Could not scan package " + packageName
         );
+        return new ArrayList<>(result.values());
+    }
+
+    private static void addJarRoot(Map<String, URL> roots, URL url) {
+        if ("jar".equals(url.getProtocol())) {
+            String external = url.toExternalForm();
+            roots.putIfAbsent(external.substring(0, external.lastIndexOf("!/")), url);
+        }
+    }
+
+    private static ForkJoinTask<?> scan(
+        String packageName,
+        URL root,
+        boolean scanRecursively,
+        Queue<String> result
+    ) {
+        if ("jar".equals(root.getProtocol())) {
+            return ForkJoinTask.adapt(() ->
+                scanJar(packageName, root, scanRecursively, result)
+            );
+        }
+        if (!"file".equals(root.getProtocol())) {
+            throw new ReflectionException(
+                "Could not scan package " +
+                packageName +
+                " in " +
+                root +
+                ": only directories and JAR files are supported."
+            );
+        }
+        Path dir = new File(getResourcePath(root)).toPath();
+        return new DirectoryScan(packageName, dir, scanRecursively, result);
     }
 
     private static String getResourcePath(URL r) {
@@ -58,46 +175,77 @@ public final class PackageScanner {
         );
     }
 
-    private static List<Class<?>> getClassesInDir(
+    private static void scanJar(
         String packageName,
-        File dir,
-        Class<?> mustExtend,
+        URL root,
+        boolean scanRecursively,
+        Queue<String> result
+    ) {
+        String prefix = packageName.replace('.', '/') + "/";
+        rethrow(
+            () -> {
+                JarURLConnection connection = (JarURLConnection) root.openConnection();
+                connection.setUseCaches(false);
+                try (JarFile jarFile = connection.getJarFile()) {
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (isClassInPackage(name, prefix, scanRecursively)) {
+                            result.add(stripClassSuffix(name).replace('/', '.'));
+                        }
+                    }
+                }
+            },
+            e -> "Could not scan package " + packageName + " in " + root
+        );
+    }
+
+    private static boolean isClassInPackage(
+        String entryName,
+        String prefix,
         boolean scanRecursively
     ) {
-        if (!dir.exists()) {
-            return Collections.emptyList();
+        return (
+            entryName.startsWith(prefix) &&
+            entryName.endsWith(CLASS_SUFFIX) &&
+            (scanRecursively || entryName.indexOf('/', prefix.length()) < 0)
+        );
+    }
+
+    private static String stripClassSuffix(String fileName) {
+        return fileName.substring(0, fileName.length() - CLASS_SUFFIX.length());
+    }
+
+    /*
+     * Decides from the class file alone whether a class can be skipped, so it doesn't have to be
+     * loaded. If the class file can't be fully resolved or parsed, for instance because it's newer
+     * than ByteBuddy supports, the class is kept, and the checks in getClassesIn decide once it's
+     * loaded.
+     */
+    private static boolean isCandidate(TypePool pool, String name, Class<?> mustExtend) {
+        if (name.endsWith("Test")) {
+            return false;
+        }
+        try {
+            TypeDescription type = pool.describe(name).resolve();
+            if (type.isAnonymousType() || type.isLocalType()) {
+                return false;
+            }
+            return (
+                mustExtend == null ||
+                (type.isAssignableTo(mustExtend) && !mustExtend.getName().equals(name))
+            );
+        } catch (RuntimeException e) {
+            return true;
         }
-        return Arrays
-            .stream(dir.listFiles())
-            .filter(f -> (scanRecursively && f.isDirectory()) || f.getName().endsWith(".class"))
-            .flatMap(f -> {
-                List<Class<?>> classes;
-                if (f.isDirectory()) {
-                    classes =
-                        getClassesInDir(
-                            packageName + "." + f.getName(),
-                            f,
-                            mustExtend,
-                            scanRecursively
-                        );
-                } else {
-                    classes = Collections.singletonList(fileToClass(packageName, f));
-                }
-                return classes.stream();
-            })
-            .filter(c -> !c.isAnonymousClass())
-            .filter(c -> !c.isLocalClass())
-            .filter(c -> !c.getName().endsWith("Test"))
-            .filter(c ->
-                mustExtend == null || (mustExtend.isAssignableFrom(c) && !mustExtend.equals(c))
-            )
-            .collect(Collectors.toList());
     }
 
-    private static Class<?> fileToClass(String packageName, File file) {
-        String className = file.getName().substring(0, file.getName().length() - 6);
+    private static Class<?> nameToClass(ClassLoader cl, String name) {
+        int dot = name.lastIndexOf('.');
+        String packageName = dot < 0 ? "" : name.substring(0, dot);
+        String className = name.substring(dot + 1);
         return rethrow(
-            () -> Class.forName(packageName + "." + className),
+            () -> Class.forName(name, false, cl),
             e ->
                 "Could not resolve class " +
                 className +
@@ -105,4 +253,61 @@ public final class PackageScanner {
                 packageName
         );
     }
+
+    /*
+     * Lists a single directory, and forks a new scan for each of its subdirectories, so that
+     * large package trees are walked in parallel.
+     */
+    private static final class DirectoryScan extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String packageName;
+        private final transient Path dir;
+        private final boolean scanRecursively;
+        private final transient Queue<String> result;
+
+        private DirectoryScan(
+            String packageName,
+            Path dir,
+            boolean scanRecursively,
+            Queue<String> result
+        ) {
+            this.packageName = packageName;
+            this.dir = dir;
+            this.scanRecursively = scanRecursively;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (!Files.isDirectory(dir)) {
+                return;
+            }
+            List<DirectoryScan> subScans = new ArrayList<>();
+            rethrow(
+                () -> {
+                    try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                        for (Path entry : entries) {
+                            String fileName = entry.getFileName().toString();
+                            if (fileName.endsWith(CLASS_SUFFIX)) {
+                                result.add(packageName + "." + stripClassSuffix(fileName));
+                            } else if (scanRecursively && Files.isDirectory(entry)) {
+                                subScans.add(
+                                    new DirectoryScan(
+                                        packageName + "." + fileName,
+                                        entry,
+                                        true,
+                                        result
+                                    )
+                                );
+                            }
+                        }
+                    }
+                },
+                e -> "Could not scan package " + packageName + " in " + dir
+            );
+            invokeAll(subScans);
+        }
+    }
 }
@@ -4,7 +4,6 @@ import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -13,6 +12,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
 
@@ -61,11 +61,11 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
     public ObjectAccessor<T> scramble(
         PrefabValues prefabValues,
         TypeTag enclosingType,
-        LinkedHashSet<TypeTag> typeStack
+        TypeStack typeStack
     ) {
         return makeAccessor(f -> {
             Object value = getField(f);
-            TypeTag tag = TypeTag.of(f, enclosingType);
+            TypeTag tag = prefabValues.tagFor(f, enclosingType);
             return prefabValues.giveOther(tag, value, typeStack);
         });
     }
@@ -86,7 +86,7 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
         return makeAccessor(f ->
             canBeDefault.test(f)
                 ? PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(f.getType())
-                : prefabValues.giveRed(TypeTag.of(f, enclosingType))
+                : prefabValues.giveRed(prefabValues.tagFor(f, enclosingType))
         );
     }
 
@@ -103,7 +103,7 @@ final class RecordObjectAccessor<T> extends ObjectAccessor<T> {
         PrefabValues prefabValues,
         TypeTag enclosingType
     ) {
-        TypeTag tag = TypeTag.of(field, enclosingType);
+        TypeTag tag = prefabValues.tagFor(field, enclosingType);
         Object currentValue = getField(field);
         Object newValue = prefabValues.giveOther(tag, currentValue);
         return modify(field, newValue);
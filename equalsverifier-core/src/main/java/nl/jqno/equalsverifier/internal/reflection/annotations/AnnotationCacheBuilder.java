@@ -16,6 +16,7 @@ import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+import nl.jqno.equalsverifier.internal.util.FlightRecorderHelper;
 
 public class AnnotationCacheBuilder {
 
@@ -35,6 +36,7 @@ public class AnnotationCacheBuilder {
             return;
         }
 
+        Runnable endEvent = FlightRecorderHelper.beginAnnotationCacheBuild(type);
         try {
             TypePool pool = TypePool.Default.of(type.getClassLoader());
             TypeDescription typeDescription = pool.describe(type.getName()).resolve();
@@ -45,6 +47,8 @@ public class AnnotationCacheBuilder {
             visitPackage(type, cache, pool);
         } catch (IllegalStateException ignored) {
             // Just ignore this class if it can't be processed.
+        } finally {
+            endEvent.run();
         }
     }
 
@@ -0,0 +1,18 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.reflection.Instantiator;
+
+/**
+ * Resets all the caches that EqualsVerifier keeps between verifications. This is useful when a
+ * test framework does "clever" tricks with ClassLoaders, because the caches can contain classes
+ * from a ClassLoader that is no longer in use.
+ */
+public final class Caches {
+
+    private Caches() {}
+
+    public static void reset() {
+        ObjenesisWrapper.reset();
+        Instantiator.resetCaches();
+    }
+}
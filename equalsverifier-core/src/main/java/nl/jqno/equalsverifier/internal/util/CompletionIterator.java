@@ -0,0 +1,78 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Returns the results from a {@link CompletionService} in the order in which they finish, and
+ * removes each future from {@code pending} once it has been taken, so a result that has been
+ * returned isn't kept alive by the caller's bookkeeping.
+ *
+ * @param <T> The type of the results.
+ */
+public final class CompletionIterator<T> implements Iterator<T> {
+
+    private final CompletionService<T> completion;
+    private final Set<Future<T>> pending;
+    private final Function<Future<T>, T> await;
+    private final Runnable close;
+    private int remaining;
+
+    /**
+     * Constructor.
+     *
+     * @param completion The service to take the finished futures from.
+     * @param pending The futures that were submitted to {@code completion} and haven't been taken
+     *     yet. Must be safe to use concurrently.
+     * @param await Gets the result of a finished future.
+     * @param close Runs when the last result has been returned, or when taking a result fails.
+     */
+    public CompletionIterator(
+        CompletionService<T> completion,
+        Set<Future<T>> pending,
+        Function<Future<T>, T> await,
+        Runnable close
+    ) {
+        this.completion = completion;
+        this.pending = pending;
+        this.await = await;
+        this.remaining = pending.size();
+        this.close = close;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+        if (remaining == 0) {
+            throw new NoSuchElementException();
+        }
+        boolean done = false;
+        try {
+            Future<T> future = completion.take();
+            pending.remove(future);
+            remaining--;
+            T result = await.apply(future);
+            done = remaining == 0;
+            return result;
+        } catch (InterruptedException e) {
+            done = true;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying types.", e);
+        } catch (RuntimeException | Error e) {
+            done = true;
+            throw e;
+        } finally {
+            if (done) {
+                close.run();
+            }
+        }
+    }
+}
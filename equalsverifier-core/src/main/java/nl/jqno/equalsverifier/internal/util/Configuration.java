@@ -10,8 +10,6 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import nl.jqno.equalsverifier.Warning;
-import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
-import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
@@ -89,15 +87,13 @@ public final class Configuration<T> {
         boolean usingGetClass,
         EnumSet<Warning> warningsToSuppress,
         Function<String, String> fieldnameToGetter,
-        FactoryCache factoryCache,
+        PrefabValues prefabValues,
         Set<String> ignoredAnnotationClassNames,
         Set<String> actualFields,
         List<T> equalExamples,
         List<T> unequalExamples
     ) {
         TypeTag typeTag = new TypeTag(type);
-        FactoryCache cache = JavaApiPrefabValues.build().merge(factoryCache);
-        PrefabValues prefabValues = new PrefabValues(cache);
         ClassAccessor<T> classAccessor = ClassAccessor.of(type, prefabValues);
         AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationClassNames);
         Set<String> ignoredFields = determineIgnoredFields(
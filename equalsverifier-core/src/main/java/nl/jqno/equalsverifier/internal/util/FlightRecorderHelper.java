@@ -0,0 +1,38 @@
+package nl.jqno.equalsverifier.internal.util;
+
+/**
+ * Note: this is a generic implementation for a multi-release jar class.
+ * See equalsverifier-17 submodule.
+ *
+ * <p>Each {@code begin} method returns a {@link Runnable} that must be run when the phase ends.
+ */
+public final class FlightRecorderHelper {
+
+    private static final Runnable NOOP = () -> {};
+
+    private FlightRecorderHelper() {}
+
+    public static boolean isSupported() {
+        return false;
+    }
+
+    public static Runnable beginVerification(Class<?> type) {
+        return NOOP;
+    }
+
+    public static Runnable beginCheck(Class<?> type, String checker) {
+        return NOOP;
+    }
+
+    public static Runnable beginPrefabValueCreation(Object typeTag) {
+        return NOOP;
+    }
+
+    public static Runnable beginAnnotationCacheBuild(Class<?> type) {
+        return NOOP;
+    }
+
+    public static Runnable beginDynamicSubclassGeneration(Class<?> superclass, String nameSuffix) {
+        return NOOP;
+    }
+}
@@ -15,7 +15,7 @@ import org.objenesis.ObjenesisStd;
  */
 public final class ObjenesisWrapper {
 
-    private static Objenesis objenesis = new ObjenesisStd();
+    private static volatile Objenesis objenesis = new ObjenesisStd();
 
     private ObjenesisWrapper() {}
 
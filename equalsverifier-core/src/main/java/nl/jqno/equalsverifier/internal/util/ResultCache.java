@@ -0,0 +1,251 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Remembers, across runs, which classes were verified successfully, so they don't have to be
+ * verified again as long as neither the class nor the configuration of the verification changes.
+ *
+ * <p>Each successful verification is stored as an empty file in the cache directory. Its name is a
+ * hash of the class files of the verified class and its superclasses, of a fingerprint of the
+ * configuration, and of the version of EqualsVerifier. If EqualsVerifier wasn't loaded from a
+ * released jar, so it has no version, the hash of its own class files is used instead; if those
+ * can't be read either, nothing is cached.
+ *
+ * <p>Only files whose names have the format of a key are considered entries, so other files in the
+ * directory are left alone. When the directory contains more than the maximum number of entries,
+ * the entries that were least recently used are deleted, until a tenth of the maximum is free
+ * again. The number of entries is counted only once, and then kept up to date, so the directory
+ * isn't listed on every addition.
+ *
+ * <p>The cache is strictly an optimization: if it can't be read or written, the class is simply
+ * verified.
+ */
+public final class ResultCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+    private static final Pattern KEY_FORMAT = Pattern.compile("[0-9a-f]{64}");
+    private static final String VERSION = determineVersion();
+
+    private final Path directory;
+    private final int maxEntries;
+    private int entryCount = -1; // guarded by this; -1 until the directory has been counted
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory in which to keep the entries. It is created if it doesn't
+     *     exist yet.
+     * @param maxEntries The maximum number of entries to keep.
+     */
+    public ResultCache(Path directory, int maxEntries) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Computes the key under which the result of a verification is stored.
+     *
+     * @param types The classes whose class files determine the result of the verification. Their
+     *     superclasses are included automatically.
+     * @param fingerprint A description of the configuration of the verification.
+     * @return The key, or null if the result of the verification can't be cached, because one of
+     *     the class files, or the version of EqualsVerifier, can't be determined.
+     */
+    public String keyFor(List<Class<?>> types, String fingerprint) {
+        if (VERSION == null) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        for (Class<?> type : types) {
+            Class<?> c = type;
+            while (c != null && !c.equals(Object.class)) {
+                if (!update(digest, c)) {
+                    return null;
+                }
+                c = c.getSuperclass();
+            }
+        }
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        digest.update(VERSION.getBytes(StandardCharsets.UTF_8));
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Checks whether a successful verification was stored under the given key, and marks the
+     * entry as recently used if so.
+     *
+     * @param key The key, as computed by {@link #keyFor(List, String)}.
+     * @return Whether a successful verification was stored under the given key.
+     */
+    public boolean contains(String key) {
+        Path entry = directory.resolve(key);
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stores a successful verification under the given key, and removes the least recently used
+     * entries if there are too many.
+     *
+     * @param key The key, as computed by {@link #keyFor(List, String)}.
+     */
+    public void add(String key) {
+        try {
+            Files.createDirectories(directory);
+            Files.createFile(directory.resolve(key));
+            countAddedEntry();
+        } catch (FileAlreadyExistsException e) {
+            // Another thread or process verified the same class; nothing to do.
+        } catch (IOException e) {
+            // The cache is an optimization only; the class will be verified again next time.
+        }
+    }
+
+    private synchronized void countAddedEntry() throws IOException {
+        entryCount = entryCount < 0 ? listEntries().size() : entryCount + 1;
+        if (entryCount > maxEntries) {
+            entryCount = evict(maxEntries - maxEntries / 10);
+        }
+    }
+
+    private int evict(int remaining) throws IOException {
+        List<Entry> sorted = new ArrayList<>();
+        for (Path p : listEntries()) {
+            try {
+                sorted.add(new Entry(p, Files.getLastModifiedTime(p)));
+            } catch (IOException e) {
+                // Already evicted by another thread or process.
+            }
+        }
+        sorted.sort(Comparator.comparing(e -> e.lastModified));
+        int toDelete = Math.max(0, sorted.size() - remaining);
+        for (int i = 0; i < toDelete; i++) {
+            Files.deleteIfExists(sorted.get(i).path);
+        }
+        return sorted.size() - toDelete;
+    }
+
+    private List<Path> listEntries() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        DirectoryStream.Filter<Path> isEntry = p ->
+            KEY_FORMAT.matcher(p.getFileName().toString()).matches();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, isEntry)) {
+            stream.forEach(entries::add);
+        }
+        return entries;
+    }
+
+    /*
+     * Released jars have an implementation version. Otherwise, for instance when EqualsVerifier
+     * itself is being developed, its class files can change without the version changing, so they
+     * are hashed instead.
+     */
+    private static String determineVersion() {
+        String version = EqualsVerifier.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        try {
+            CodeSource source = EqualsVerifier.class.getProtectionDomain().getCodeSource();
+            if (source == null || source.getLocation() == null) {
+                return null;
+            }
+            Path location = Paths.get(source.getLocation().toURI());
+            MessageDigest digest = newDigest();
+            if (Files.isDirectory(location)) {
+                List<Path> classFiles;
+                try (Stream<Path> files = Files.walk(location)) {
+                    classFiles = files
+                        .filter(p -> p.toString().endsWith(".class"))
+                        .sorted()
+                        .collect(Collectors.toList());
+                }
+                for (Path p : classFiles) {
+                    String name = location.relativize(p).toString();
+                    digest.update(name.getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(p));
+                }
+            } else {
+                digest.update(Files.readAllBytes(location));
+            }
+            return "unreleased-" + toHex(digest.digest());
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean update(MessageDigest digest, Class<?> type) {
+        String resource = type.getName().replace('.', '/') + ".class";
+        ClassLoader cl = type.getClassLoader();
+        try (
+            InputStream in = cl == null
+                ? ClassLoader.getSystemResourceAsStream(resource)
+                : cl.getResourceAsStream(resource)
+        ) {
+            if (in == null) {
+                return false;
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                digest.update(buffer, 0, n);
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    private static final class Entry {
+
+        private final Path path;
+        private final FileTime lastModified;
+
+        private Entry(Path path, FileTime lastModified) {
+            this.path = path;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import nl.jqno.equalsverifier.VerificationStatistics;
+
+/**
+ * Collects the {@link VerificationStatistics} of the verification that is running on the current
+ * thread.
+ *
+ * <p>A verification always runs on a single thread, so the recorder is kept in a {@link
+ * ThreadLocal} and its counters aren't synchronized. This way, the code that does the work only
+ * needs to call one of the static methods, without knowing which verification it's working for.
+ * When no verification is running on the current thread, these methods do nothing.
+ */
+public final class StatisticsRecorder {
+
+    private static final ThreadLocal<StatisticsRecorder> CURRENT = new ThreadLocal<>();
+
+    private final StatisticsRecorder previous;
+    private final Map<String, Duration> durations = new LinkedHashMap<>();
+    private long objectsInstantiated;
+    private long fieldsWritten;
+    private long prefabCacheHits;
+    private long prefabCacheMisses;
+    private long dynamicSubclassesGenerated;
+    private boolean stopped;
+
+    private StatisticsRecorder(StatisticsRecorder previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Starts recording statistics for the current thread.
+     *
+     * @return The recorder. Must be stopped, in a {@code finally} block, on the same thread.
+     */
+    public static StatisticsRecorder start() {
+        StatisticsRecorder result = new StatisticsRecorder(CURRENT.get());
+        CURRENT.set(result);
+        return result;
+    }
+
+    /** Stops recording statistics for the current thread. Can safely be called more than once. */
+    public void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Runs the given block and records how long it took.
+     *
+     * @param phase The name under which to record the duration.
+     * @param block The block to run.
+     */
+    public void time(String phase, Runnable block) {
+        long start = System.nanoTime();
+        try {
+            block.run();
+        } finally {
+            record(phase, start);
+        }
+    }
+
+    /**
+     * Records the duration of a phase that started at the given time and ends now.
+     *
+     * @param phase The name under which to record the duration.
+     * @param startNanos The start of the phase, as given by {@link System#nanoTime()}.
+     */
+    public void record(String phase, long startNanos) {
+        durations.merge(phase, Duration.ofNanos(System.nanoTime() - startNanos), Duration::plus);
+    }
+
+    /** @return The statistics that were recorded so far. */
+    public VerificationStatistics statistics() {
+        return new VerificationStatistics(
+            durations,
+            objectsInstantiated,
+            fieldsWritten,
+            prefabCacheHits,
+            prefabCacheMisses,
+            dynamicSubclassesGenerated
+        );
+    }
+
+    /** Records that an object was instantiated. */
+    public static void objectInstantiated() {
+        StatisticsRecorder r = CURRENT.get();
+        if (r != null) {
+            r.objectsInstantiated++;
+        }
+    }
+
+    /**
+     * Records that fields were written reflectively.
+     *
+     * @param count The number of fields that were written.
+     */
+    public static void fieldsWritten(int count) {
+        StatisticsRecorder r = CURRENT.get();
+        if (r != null) {
+            r.fieldsWritten += count;
+        }
+    }
+
+    /** Records that a prefabricated value was taken from the cache. */
+    public static void prefabCacheHit() {
+        StatisticsRecorder r = CURRENT.get();
+        if (r != null) {
+            r.prefabCacheHits++;
+        }
+    }
+
+    /** Records that a prefabricated value had to be created. */
+    public static void prefabCacheMiss() {
+        StatisticsRecorder r = CURRENT.get();
+        if (r != null) {
+            r.prefabCacheMisses++;
+        }
+    }
+
+    /** Records that a subclass was generated. */
+    public static void dynamicSubclassGenerated() {
+        StatisticsRecorder r = CURRENT.get();
+        if (r != null) {
+            r.dynamicSubclassesGenerated++;
+        }
+    }
+}
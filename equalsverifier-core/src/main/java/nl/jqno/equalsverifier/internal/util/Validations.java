@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.util;
 import static nl.jqno.equalsverifier.internal.util.ListBuilders.listContainsDuplicates;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -230,6 +231,19 @@ public final class Validations {
         validate(!unknownTypes.isEmpty(), message);
     }
 
+    public static void validateParallelism(int parallelism) {
+        validate(parallelism < 1, "parallelism must be at least 1, but was " + parallelism + ".");
+    }
+
+    public static void validateMaxFailures(int maxFailures) {
+        validate(maxFailures < 1, "maxFailures must be at least 1, but was " + maxFailures + ".");
+    }
+
+    public static void validateResultCache(Path directory, int maxEntries) {
+        validateNotNull(directory, "result cache directory is null.");
+        validate(maxEntries < 1, "maxEntries must be at least 1, but was " + maxEntries + ".");
+    }
+
     public static void validateNotNull(Object object, String errormessage) {
         if (object == null) {
             throw new NullPointerException("Precondition: " + errormessage);
@@ -0,0 +1,75 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+
+/**
+ * Holds state that is shared between the verifications of all classes in a single {@code
+ * forClasses} or {@code forPackage} run, so it doesn't have to be rebuilt for each class.
+ *
+ * <p>Currently, these are {@link PrefabValues} instances. Many prefab values, such as calendars
+ * and formats, are mutable and not thread-safe, so an instance is only ever used by one
+ * verification at a time: a verification borrows one, and returns it when it's done. The next
+ * verification with the same factories gets it back, with all the values it has created so far,
+ * regardless of the thread it runs on. When several classes are verified at the same time, each of
+ * them borrows its own instance.
+ */
+public final class VerificationSession {
+
+    private final Queue<Lease> idle = new ConcurrentLinkedQueue<>();
+    private final Map<PrefabValues, FactoryCache> borrowed = new ConcurrentHashMap<>();
+
+    /**
+     * Lends out a {@link PrefabValues} instance for the given factories, which no other
+     * verification uses until it is returned. If an instance that used the same factories was
+     * returned earlier, that instance, with all the values it has created so far, is lent out
+     * again.
+     *
+     * @param userFactories The factories that were added using {@code #withPrefabValues} and
+     *     {@code #withGenericPrefabValues}.
+     * @return A {@link PrefabValues} instance that uses the given factories.
+     */
+    public PrefabValues borrowPrefabValues(FactoryCache userFactories) {
+        for (Lease lease = idle.poll(); lease != null; lease = idle.poll()) {
+            if (lease.factoryCache.containsSameFactoriesAs(userFactories)) {
+                borrowed.put(lease.prefabValues, lease.factoryCache);
+                return lease.prefabValues;
+            }
+        }
+        FactoryCache factoryCache = new FactoryCache().merge(userFactories);
+        PrefabValues prefabValues = new PrefabValues(
+            JavaApiPrefabValues.build().merge(factoryCache)
+        );
+        borrowed.put(prefabValues, factoryCache);
+        return prefabValues;
+    }
+
+    /**
+     * Returns a {@link PrefabValues} instance that was lent out by {@link
+     * #borrowPrefabValues(FactoryCache)}, so the next verification can re-use it.
+     *
+     * @param prefabValues The instance to return. The caller must not use it anymore.
+     */
+    public void returnPrefabValues(PrefabValues prefabValues) {
+        FactoryCache factoryCache = borrowed.remove(prefabValues);
+        if (factoryCache != null) {
+            idle.add(new Lease(factoryCache, prefabValues));
+        }
+    }
+
+    private static final class Lease {
+
+        private final FactoryCache factoryCache;
+        private final PrefabValues prefabValues;
+
+        private Lease(FactoryCache factoryCache, PrefabValues prefabValues) {
+            this.factoryCache = factoryCache;
+            this.prefabValues = prefabValues;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Note: this is a generic implementation for a multi-release jar class.
+ * See equalsverifier-21 submodule.
+ */
+public final class VirtualThreadsHelper {
+
+    private VirtualThreadsHelper() {}
+
+    /**
+     * Creates an executor that runs at most {@code maxConcurrency} tasks at the same time. Virtual
+     * threads aren't available before Java 21, so it uses a pool of platform threads.
+     *
+     * @param maxConcurrency The maximum number of tasks that run at the same time.
+     * @return An executor that never runs more than {@code maxConcurrency} tasks at once.
+     */
+    public static ExecutorService newExecutor(int maxConcurrency) {
+        return Executors.newFixedThreadPool(maxConcurrency, new WorkerThreadFactory());
+    }
+}
@@ -0,0 +1,20 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the daemon threads on which EqualsVerifier verifies types concurrently, so that a pool
+ * that is left running can never keep the JVM alive.
+ */
+public final class WorkerThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread result = new Thread(r, "equalsverifier-worker-" + count.incrementAndGet());
+        result.setDaemon(true);
+        return result;
+    }
+}
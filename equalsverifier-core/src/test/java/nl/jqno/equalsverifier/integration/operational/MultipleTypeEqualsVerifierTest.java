@@ -6,8 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
@@ -302,6 +308,241 @@ public class MultipleTypeEqualsVerifierTest {
         );
     }
 
+    @Test
+    public void succeed_whenVerifyingACorrectPackageRecursively_givenParallelism() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true).withParallelism(4).verify();
+    }
+
+    @Test
+    public void fail_whenVerifyingAPackageWithTwoIncorrectClasses_givenParallelism() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forPackage(INCORRECT_PACKAGE).withParallelism(4).verify())
+            .assertFailure()
+            .assertMessageContains(
+                "EqualsVerifier found a problem in 2 classes.",
+                "* " + INCORRECT_M,
+                "* " + INCORRECT_N,
+                "Subclass: equals is not final.",
+                "Reflexivity: object does not equal itself:"
+            );
+    }
+
+    @Test
+    public void fail_whenReportingOnTwoIncorrectClasses_givenParallelism() {
+        List<EqualsVerifierReport> reports = EqualsVerifier
+            .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+            .withParallelism(3)
+            .report();
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void fail_whenReportingOnTwoIncorrectClasses_givenExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<EqualsVerifierReport> reports = EqualsVerifier
+                .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                .withExecutor(executor)
+                .report();
+
+            assertEquals(4, reports.size());
+            assertSuccessful(reports.get(0), A.class);
+            assertSuccessful(reports.get(2), C.class);
+            assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+            assertUnsuccessful(
+                reports.get(3),
+                IncorrectN.class,
+                "Reflexivity: object does not equal itself:"
+            );
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void fail_whenReportingOnTwoIncorrectClasses_givenVirtualThreads() {
+        List<EqualsVerifierReport> reports = EqualsVerifier
+            .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+            .withVirtualThreads(2)
+            .report();
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void fail_whenStreamingReportsOnTwoIncorrectClasses() {
+        List<EqualsVerifierReport> reports;
+        try (
+            Stream<EqualsVerifierReport> stream = EqualsVerifier
+                .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                .reportAsStream()
+        ) {
+            reports = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void succeed_whenStreamingReportsIsStoppedEarly() {
+        try (
+            Stream<EqualsVerifierReport> stream = EqualsVerifier
+                .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                .reportAsStream()
+        ) {
+            List<EqualsVerifierReport> failures = stream
+                .filter(r -> !r.isSuccessful())
+                .limit(1)
+                .collect(Collectors.toList());
+            assertEquals(1, failures.size());
+            assertEquals(IncorrectM.class, failures.get(0).getType());
+        }
+    }
+
+    @Test
+    public void fail_whenStreamingReportsOnTwoIncorrectClasses_givenParallelism() {
+        Map<Class<?>, EqualsVerifierReport> reports;
+        try (
+            Stream<EqualsVerifierReport> stream = EqualsVerifier
+                .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                .withParallelism(3)
+                .reportAsStream()
+        ) {
+            reports = stream.collect(Collectors.toMap(r -> r.getType(), r -> r));
+        }
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(A.class), A.class);
+        assertSuccessful(reports.get(C.class), C.class);
+        assertUnsuccessful(
+            reports.get(IncorrectM.class),
+            IncorrectM.class,
+            "Subclass: equals is not final."
+        );
+        assertUnsuccessful(
+            reports.get(IncorrectN.class),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void succeed_whenStreamingReportsIsStoppedEarly_givenParallelism() {
+        try (
+            Stream<EqualsVerifierReport> stream = EqualsVerifier
+                .forPackage(CORRECT_PACKAGE, true)
+                .withParallelism(2)
+                .reportAsStream()
+        ) {
+            assertTrue(stream.findFirst().get().isSuccessful());
+        }
+    }
+
+    @Test
+    public void fail_whenListeningToReportsOnTwoIncorrectClasses() {
+        List<EqualsVerifierReport> reports = new ArrayList<>();
+        EqualsVerifier
+            .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+            .report(reports::add);
+
+        assertEquals(4, reports.size());
+        assertSuccessful(reports.get(0), A.class);
+        assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+        assertSuccessful(reports.get(2), C.class);
+        assertUnsuccessful(
+            reports.get(3),
+            IncorrectN.class,
+            "Reflexivity: object does not equal itself:"
+        );
+    }
+
+    @Test
+    public void fail_whenVerifyingTwoIncorrectClasses_givenFailFast() {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier
+                    .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                    .failFast()
+                    .verify()
+            )
+            .assertFailure()
+            .assertMessageContains(
+                "EqualsVerifier found a problem in 1 class.",
+                "* " + INCORRECT_M,
+                "Subclass: equals is not final."
+            )
+            .assertMessageDoesNotContain(INCORRECT_N);
+    }
+
+    @Test
+    public void fail_whenVerifyingAPackageRecursivelyWithFourIncorrectClasses_givenMaxFailures() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forPackage(INCORRECT_PACKAGE, true).maxFailures(3).verify())
+            .assertFailure()
+            .assertMessageContains("EqualsVerifier found a problem in 3 classes.");
+    }
+
+    @Test
+    public void fail_whenVerifyingAPackageRecursivelyWithFourIncorrectClasses_givenMaxFailuresAndParallelism() {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier
+                    .forPackage(INCORRECT_PACKAGE, true)
+                    .withParallelism(2)
+                    .maxFailures(2)
+                    .verify()
+            )
+            .assertFailure()
+            .assertMessageContains("EqualsVerifier found a problem in 2 classes.");
+    }
+
+    @Test
+    public void succeed_whenVerifyingCorrectClasses_givenFailFast() {
+        EqualsVerifier.forClasses(A.class, B.class, C.class).failFast().verify();
+    }
+
+    @Test
+    public void fail_whenMaxFailuresIsNotPositive() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClasses(A.class, B.class).maxFailures(0))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("maxFailures must be at least 1");
+    }
+
+    @Test
+    public void fail_whenParallelismIsNotPositive() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClasses(A.class, B.class).withParallelism(0))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("parallelism must be at least 1");
+    }
+
     private void assertSuccessful(EqualsVerifierReport report, Class<?> type) {
         assertTrue(report.isSuccessful());
         assertEquals(type, report.getType());
@@ -4,8 +4,12 @@ import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.VerificationStatistics;
 import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
 import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
@@ -39,6 +43,45 @@ public class ReportTest {
         assertNull(report.getCause().getMessage());
     }
 
+    @Test
+    public void containsStatisticsWhenClassIsCorrect() {
+        VerificationStatistics statistics = EqualsVerifier
+            .forClass(FinalPoint.class)
+            .report()
+            .getStatistics();
+
+        assertEquals(
+            Arrays.asList(
+                "Configuration",
+                "SignatureChecker",
+                "AbstractDelegationChecker",
+                "NullChecker",
+                "RecordChecker",
+                "CachedHashCodeChecker",
+                "ExamplesChecker",
+                "HierarchyChecker",
+                "FieldsChecker",
+                "MapEntryHashCodeRequirementChecker"
+            ),
+            new ArrayList<>(statistics.getDurations().keySet())
+        );
+        assertTrue(statistics.getObjectsInstantiated() > 0);
+        assertTrue(statistics.getFieldsWritten() > 0);
+        assertTrue(statistics.getPrefabCacheHits() + statistics.getPrefabCacheMisses() > 0);
+    }
+
+    @Test
+    public void containsStatisticsUpToTheFailingCheckerWhenClassIsIncorrect() {
+        VerificationStatistics statistics = EqualsVerifier
+            .forClass(Point.class)
+            .report()
+            .getStatistics();
+
+        List<String> phases = new ArrayList<>(statistics.getDurations().keySet());
+        assertEquals("Configuration", phases.get(0));
+        assertFalse(phases.contains("MapEntryHashCodeRequirementChecker"));
+    }
+
     @Test
     public void reportReturnsTheSameInformationAsVerify() {
         EqualsVerifierReport report = EqualsVerifier.forClass(Point.class).report();
@@ -0,0 +1,88 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.twoincorrect.IncorrectM;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WithResultCacheTest {
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void successfulVerificationIsRemembered() throws IOException {
+        EqualsVerifier.forClass(A.class).withResultCache(directory, 10).verify();
+        assertEquals(1, countEntries());
+
+        EqualsVerifier.forClass(A.class).withResultCache(directory, 10).verify();
+        assertEquals(1, countEntries());
+    }
+
+    @Test
+    public void differentConfigurationIsRememberedSeparately() throws IOException {
+        EqualsVerifier.forClass(A.class).withResultCache(directory, 10).verify();
+        EqualsVerifier
+            .forClass(A.class)
+            .suppress(Warning.STRICT_INHERITANCE)
+            .withResultCache(directory, 10)
+            .verify();
+        assertEquals(2, countEntries());
+    }
+
+    @Test
+    public void verificationWithPrefabValuesIsNotRemembered() throws IOException {
+        EqualsVerifier
+            .forClass(A.class)
+            .withPrefabValues(StringBuilder.class, new StringBuilder("a"), new StringBuilder("b"))
+            .withResultCache(directory, 10)
+            .verify();
+        assertEquals(0, countEntries());
+    }
+
+    @Test
+    public void failedVerificationIsNotRemembered() throws IOException {
+        ExpectedException
+            .when(() ->
+                EqualsVerifier.forClass(IncorrectM.class).withResultCache(directory, 10).verify()
+            )
+            .assertFailure();
+        assertEquals(0, countEntries());
+    }
+
+    @Test
+    public void multipleTypesShareTheCache() throws IOException {
+        EqualsVerifier.forClasses(A.class, B.class).withResultCache(directory, 10).verify();
+        assertEquals(2, countEntries());
+
+        EqualsVerifier.forClass(A.class).withResultCache(directory, 10).verify();
+        assertEquals(2, countEntries());
+    }
+
+    @Test
+    public void fail_whenMaxEntriesIsNotPositive() {
+        ExpectedException
+            .when(() -> EqualsVerifier.forClass(A.class).withResultCache(directory, 0))
+            .assertThrows(IllegalStateException.class)
+            .assertMessageContains("maxEntries must be at least 1");
+    }
+
+    private long countEntries() throws IOException {
+        if (!Files.exists(directory)) {
+            return 0;
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.count();
+        }
+    }
+}
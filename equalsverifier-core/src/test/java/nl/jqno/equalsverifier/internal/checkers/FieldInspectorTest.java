@@ -30,6 +30,15 @@ public class FieldInspectorTest {
         inspector.check(new ResetObjectForEachIterationCheck<>());
     }
 
+    @Test
+    public void objectsAreReset_whenTheSameInspectorRunsSeveralChecks() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+        ResetObjectForEachIterationCheck<Point> check = new ResetObjectForEachIterationCheck<>();
+
+        inspector.check(check);
+        inspector.check(check);
+    }
+
     @Test
     public void objectsAreReset_whenEachIterationBegins_givenNullObjects() {
         FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
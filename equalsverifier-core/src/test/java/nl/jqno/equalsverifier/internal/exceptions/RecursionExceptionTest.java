@@ -1,25 +1,38 @@
 package nl.jqno.equalsverifier.internal.exceptions;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.LinkedHashSet;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.jupiter.api.Test;
 
 public class RecursionExceptionTest {
 
+    private final TypeStack stack = TypeStack
+        .empty()
+        .push(new TypeTag(String.class))
+        .push(new TypeTag(Point.class))
+        .push(new TypeTag(Object.class));
+
     @Test
     public void descriptionContainsAllTypes() {
-        LinkedHashSet<TypeTag> stack = new LinkedHashSet<>();
-        stack.add(new TypeTag(String.class));
-        stack.add(new TypeTag(Point.class));
-        stack.add(new TypeTag(Object.class));
-
         String message = new RecursionException(stack).getDescription();
 
         for (TypeTag tag : stack) {
             assertTrue(message.contains(tag.toString()));
         }
     }
+
+    @Test
+    public void descriptionListsTypesInTheOrderTheyWereEncountered() {
+        String message = new RecursionException(stack).getDescription();
+
+        assertEquals(
+            "Recursive datastructure.\nAdd prefab values for one of the following types: " +
+            "String, Point, Object.",
+            message
+        );
+    }
 }
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,15 @@ public class CacheTest {
         assertEquals(STRING_TUPLE, cache.getTuple(STRING_TAG));
     }
 
+    @Test
+    public void putIfAbsentKeepsExistingTuple() {
+        Tuple<String> other = new Tuple<>("a", "b", new String("a"));
+
+        assertSame(STRING_TUPLE, cache.putIfAbsent(STRING_TAG, STRING_TUPLE));
+        assertSame(STRING_TUPLE, cache.putIfAbsent(STRING_TAG, other));
+        assertSame(STRING_TUPLE, cache.getTuple(STRING_TAG));
+    }
+
     @Test
     public void contains() {
         cache.put(
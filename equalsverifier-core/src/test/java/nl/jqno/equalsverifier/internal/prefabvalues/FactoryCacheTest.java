@@ -54,4 +54,58 @@ public class FactoryCacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_CLASS));
     }
+
+    @Test
+    public void layeredCacheFallsBack() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache layered = FactoryCache.layeredOver(cache);
+
+        assertTrue(layered.contains(STRING_CLASS));
+        assertEquals(STRING_FACTORY, layered.get(STRING_CLASS));
+    }
+
+    @Test
+    public void layeredCachePrefersItsOwnFactories() {
+        PrefabValueFactory<String> otherFactory = new SimpleFactory<>("x", "y", new String("x"));
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache layered = FactoryCache.layeredOver(cache);
+        layered.put(STRING_CLASS, otherFactory);
+
+        assertEquals(otherFactory, layered.get(STRING_CLASS));
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void layeredCacheDoesntModifyFallback() {
+        FactoryCache layered = FactoryCache.layeredOver(cache);
+        layered.put(INT_CLASS, INT_FACTORY);
+
+        assertTrue(layered.contains(INT_CLASS));
+        assertFalse(cache.contains(INT_CLASS));
+    }
+
+    @Test
+    public void mergeKeepsFallback() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache other = new FactoryCache();
+        other.put(INT_CLASS, INT_FACTORY);
+
+        FactoryCache merged = FactoryCache.layeredOver(cache).merge(other);
+
+        assertEquals(STRING_FACTORY, merged.get(STRING_CLASS));
+        assertEquals(INT_FACTORY, merged.get(INT_CLASS));
+    }
+
+    @Test
+    public void iteratorIncludesFallback() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache layered = FactoryCache.layeredOver(cache);
+        layered.put(INT_CLASS, INT_FACTORY);
+
+        int count = 0;
+        for (Object ignored : layered) {
+            count++;
+        }
+        assertEquals(2, count);
+    }
 }
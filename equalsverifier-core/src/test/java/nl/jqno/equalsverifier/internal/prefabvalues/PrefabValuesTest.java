@@ -5,9 +5,22 @@ import static nl.jqno.equalsverifier.internal.testhelpers.Util.defaultEquals;
 import static nl.jqno.equalsverifier.internal.testhelpers.Util.defaultHashCode;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.text.DecimalFormat;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
@@ -40,11 +53,81 @@ public class PrefabValuesTest {
         assertEquals("rrr", f.createValues(null, null, null).getRed());
     }
 
+    @Test
+    public void mutableJavaApiValuesAreNotSharedBetweenInstances() {
+        PrefabValues first = new PrefabValues(JavaApiPrefabValues.build());
+        PrefabValues second = new PrefabValues(JavaApiPrefabValues.build());
+        List<Class<?>> mutableTypes = Arrays.asList(
+            GregorianCalendar.class,
+            SimpleDateFormat.class,
+            DecimalFormat.class,
+            Scanner.class,
+            StringBuilder.class,
+            Date.class,
+            ByteBuffer.class,
+            AtomicInteger.class,
+            Semaphore.class
+        );
+        for (Class<?> type : mutableTypes) {
+            TypeTag tag = new TypeTag(type);
+            assertNotSame(first.giveRed(tag), second.giveRed(tag), type.getName());
+            assertNotSame(first.giveBlue(tag), second.giveBlue(tag), type.getName());
+        }
+    }
+
     @Test
     public void giveRedFromFactory() {
         assertEquals("r", pv.giveRed(STRING_TAG));
     }
 
+    @Test
+    public void tagForResolvesGenericFieldTypes() throws NoSuchFieldException {
+        Field field = ListContainer.class.getDeclaredField("list");
+        TypeTag expected = new TypeTag(List.class, STRING_TAG);
+        assertEquals(expected, pv.tagFor(field, new TypeTag(ListContainer.class)));
+    }
+
+    @Test
+    public void tagForResolvesEachFieldOnlyOnce() throws NoSuchFieldException {
+        Field field = ListContainer.class.getDeclaredField("list");
+        TypeTag enclosingType = new TypeTag(ListContainer.class);
+        assertSame(pv.tagFor(field, enclosingType), pv.tagFor(field, enclosingType));
+    }
+
+    @Test
+    public void tagForDoesNotShareResolvedFieldsBetweenInstances() throws NoSuchFieldException {
+        Field field = ListContainer.class.getDeclaredField("list");
+        TypeTag enclosingType = new TypeTag(ListContainer.class);
+        PrefabValues other = new PrefabValues(factoryCache);
+        assertNotSame(pv.tagFor(field, enclosingType), other.tagFor(field, enclosingType));
+    }
+
+    @Test
+    public void concurrentCallersAllGetTheSameValues() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Tuple<Point>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                    executor.submit(() -> {
+                        start.await();
+                        return pv.<Point>giveTuple(POINT_TAG);
+                    })
+                );
+            }
+            start.countDown();
+
+            Tuple<Point> expected = pv.giveTuple(POINT_TAG);
+            for (Future<Tuple<Point>> future : futures) {
+                assertSame(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void giveRedFromCache() {
         pv.giveRed(STRING_TAG);
@@ -280,7 +363,7 @@ public class PrefabValuesTest {
         public Tuple<String> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
             red += "r";
             blue += "b";
@@ -296,7 +379,7 @@ public class PrefabValuesTest {
         public Tuple<List> createValues(
             TypeTag tag,
             PrefabValues prefabValues,
-            LinkedHashSet<TypeTag> typeStack
+            TypeStack typeStack
         ) {
             TypeTag subtag = tag.getGenericTypes().get(0);
 
@@ -361,4 +444,10 @@ public class PrefabValuesTest {
         public static final ThrowingLazy X = new ThrowingLazy();
         public static final ThrowingLazy Y = new ThrowingLazy();
     }
+
+    @SuppressWarnings("unused")
+    static final class ListContainer {
+
+        private List<String> list;
+    }
 }
@@ -0,0 +1,76 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class TypeStackTest {
+
+    private static final TypeTag STRING = new TypeTag(String.class);
+    private static final TypeTag INTEGER = new TypeTag(Integer.class);
+    private static final TypeTag LIST_OF_STRING = new TypeTag(List.class, STRING);
+
+    @Test
+    public void emptyStackContainsNothing() {
+        TypeStack stack = TypeStack.empty();
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertFalse(stack.contains(STRING));
+        assertEquals(Collections.emptyList(), stack.toList());
+    }
+
+    @Test
+    public void containsPushedTags() {
+        TypeStack stack = TypeStack.empty().push(STRING).push(LIST_OF_STRING);
+        assertTrue(stack.contains(STRING));
+        assertTrue(stack.contains(new TypeTag(List.class, new TypeTag(String.class))));
+        assertFalse(stack.contains(INTEGER));
+        assertFalse(stack.contains(new TypeTag(List.class, INTEGER)));
+    }
+
+    @Test
+    public void pushDoesNotChangeTheOriginalStack() {
+        TypeStack original = TypeStack.empty().push(STRING);
+        TypeStack pushed = original.push(INTEGER);
+
+        assertEquals(1, original.size());
+        assertFalse(original.contains(INTEGER));
+        assertEquals(2, pushed.size());
+        assertTrue(pushed.contains(INTEGER));
+    }
+
+    @Test
+    public void branchesDoNotSeeEachOthersTags() {
+        TypeStack base = TypeStack.empty().push(STRING);
+        TypeStack left = base.push(INTEGER);
+        TypeStack right = base.push(LIST_OF_STRING);
+
+        assertFalse(left.contains(LIST_OF_STRING));
+        assertFalse(right.contains(INTEGER));
+    }
+
+    @Test
+    public void tagsAreListedInTheOrderTheyWerePushed() {
+        TypeStack stack = TypeStack.empty().push(STRING).push(INTEGER).push(LIST_OF_STRING);
+        List<TypeTag> expected = Arrays.asList(STRING, INTEGER, LIST_OF_STRING);
+
+        assertEquals(expected, stack.toList());
+        int i = 0;
+        for (TypeTag tag : stack) {
+            assertEquals(expected.get(i++), tag);
+        }
+        assertEquals(expected.size(), i);
+    }
+
+    @Test
+    public void listIsUnmodifiable() {
+        List<TypeTag> list = TypeStack.empty().push(STRING).toList();
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, INTEGER));
+    }
+}
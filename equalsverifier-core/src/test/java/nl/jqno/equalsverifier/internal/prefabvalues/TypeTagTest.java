@@ -25,6 +25,7 @@ public class TypeTagTest {
         EqualsVerifier
             .forClass(TypeTag.class)
             .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+            .withCachedHashCode("cachedHashCode", "computeHashCode", SOME_LONG_TYPETAG)
             .suppress(Warning.NULL_FIELDS)
             .verify();
     }
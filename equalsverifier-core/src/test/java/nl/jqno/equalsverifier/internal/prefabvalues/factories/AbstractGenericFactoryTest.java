@@ -4,10 +4,10 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ public class AbstractGenericFactoryTest {
                 public Tuple<String> createValues(
                     TypeTag tag,
                     PrefabValues prefabValues,
-                    LinkedHashSet<TypeTag> typeStack
+                    TypeStack typeStack
                 ) {
                     return Tuple.of("red", "blue", new String("red"));
                 }
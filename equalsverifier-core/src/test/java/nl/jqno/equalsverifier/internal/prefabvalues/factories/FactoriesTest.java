@@ -1,7 +1,10 @@
 package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import static nl.jqno.equalsverifier.internal.testhelpers.Util.coverThePrivateConstructor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
 import org.junit.jupiter.api.Test;
 
 public class FactoriesTest {
@@ -10,4 +13,17 @@ public class FactoriesTest {
     public void coverTheConstructor() {
         coverThePrivateConstructor(Factories.class);
     }
+
+    @Test
+    public void freshCreatesNewValuesEachTime() {
+        PrefabValueFactory<StringBuilder> factory = Factories.fresh(() ->
+            new Tuple<>(new StringBuilder("r"), new StringBuilder("b"), new StringBuilder("r"))
+        );
+        Tuple<StringBuilder> first = factory.createValues(null, null, null);
+        Tuple<StringBuilder> second = factory.createValues(null, null, null);
+
+        assertNotSame(first.getRed(), second.getRed());
+        assertNotSame(first.getBlue(), second.getBlue());
+        assertEquals("r", second.getRed().toString());
+    }
 }
@@ -6,11 +6,11 @@ import static nl.jqno.equalsverifier.internal.testhelpers.Util.defaultHashCode;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import java.util.LinkedHashSet;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.testhelpers.ExpectedException;
 import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.Node;
@@ -26,7 +26,7 @@ public class FallbackFactoryTest {
 
     private FallbackFactory<?> factory;
     private PrefabValues prefabValues;
-    private LinkedHashSet<TypeTag> typeStack;
+    private TypeStack typeStack;
 
     @BeforeEach
     public void setUp() {
@@ -34,7 +34,7 @@ public class FallbackFactoryTest {
         FactoryCache factoryCache = new FactoryCache();
         factoryCache.put(int.class, values(42, 1337, 42));
         prefabValues = new PrefabValues(factoryCache);
-        typeStack = new LinkedHashSet<>();
+        typeStack = TypeStack.empty();
     }
 
     @Test
@@ -0,0 +1,46 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersSubFieldContainer;
+import org.junit.jupiter.api.Test;
+
+public class ClassMetadataTest {
+
+    private static final Class<?> TYPE = DifferentAccessModifiersSubFieldContainer.class;
+
+    @Test
+    public void metadataIsComputedOnlyOnce() {
+        assertSame(ClassMetadata.of(TYPE), ClassMetadata.of(TYPE));
+    }
+
+    @Test
+    public void fieldListsAreReused() {
+        ClassMetadata metadata = ClassMetadata.of(TYPE);
+        assertSame(metadata.fields(true, true), metadata.fields(true, true));
+        assertSame(metadata.fields(false, false), metadata.fields(false, false));
+    }
+
+    @Test
+    public void superclassFieldsFollowDeclaredFields() {
+        ClassMetadata metadata = ClassMetadata.of(TYPE);
+        List<Field> declared = metadata.fields(false, true);
+        List<Field> all = metadata.fields(true, true);
+
+        assertEquals(declared, all.subList(0, declared.size()));
+        assertEquals(
+            ClassMetadata.of(TYPE.getSuperclass()).fields(true, true),
+            all.subList(declared.size(), all.size())
+        );
+    }
+
+    @Test
+    public void fieldListsAreUnmodifiable() {
+        List<Field> fields = ClassMetadata.of(TYPE).fields(true, true);
+        assertThrows(UnsupportedOperationException.class, () -> fields.clear());
+    }
+}
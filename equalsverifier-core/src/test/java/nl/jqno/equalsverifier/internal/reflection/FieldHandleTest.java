@@ -0,0 +1,150 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AllTypesContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.ObjectContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.PrimitiveContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.PrivateObjectContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.StaticContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.StaticFinalContainer;
+import org.junit.jupiter.api.Test;
+
+public class FieldHandleTest {
+
+    private static final String FIELD_NAME = "field";
+
+    @Test
+    public void handleIsCachedPerField() throws NoSuchFieldException {
+        Field field = PrimitiveContainer.class.getDeclaredField(FIELD_NAME);
+        Field sameField = PrimitiveContainer.class.getDeclaredField(FIELD_NAME);
+        assertSame(FieldHandle.of(field), FieldHandle.of(sameField));
+    }
+
+    @Test
+    public void getAndSetPrimitive() throws NoSuchFieldException {
+        PrimitiveContainer foo = new PrimitiveContainer();
+        FieldHandle handle = handleFor(PrimitiveContainer.class, FIELD_NAME);
+
+        handle.set(foo, 42);
+
+        assertEquals(42, foo.field);
+        assertEquals(42, handle.get(foo));
+    }
+
+    @Test
+    public void getAndSetPrivateObject() throws NoSuchFieldException {
+        PrivateObjectContainer foo = new PrivateObjectContainer();
+        FieldHandle handle = handleFor(PrivateObjectContainer.class, FIELD_NAME);
+        Object value = new Object();
+
+        handle.set(foo, value);
+
+        assertSame(value, foo.get());
+        assertSame(value, handle.get(foo));
+    }
+
+    @Test
+    public void getAndSetStatic() throws NoSuchFieldException {
+        Object original = StaticContainer.field;
+        FieldHandle handle = handleFor(StaticContainer.class, FIELD_NAME);
+        Object value = new Object();
+
+        try {
+            handle.set(null, value);
+            assertSame(value, StaticContainer.field);
+            assertSame(value, handle.get(new StaticContainer()));
+        } finally {
+            StaticContainer.field = original;
+        }
+    }
+
+    @Test
+    public void copyPrimitivesAndObjects() throws NoSuchFieldException {
+        AllTypesContainer from = new AllTypesContainer();
+        from._int = 1;
+        from._long = 2L;
+        from._double = 3.0;
+        from._object = new Object();
+        AllTypesContainer to = new AllTypesContainer();
+
+        for (String name : new String[] { "_int", "_long", "_double", "_object" }) {
+            handleFor(AllTypesContainer.class, name).copy(from, to);
+        }
+
+        assertEquals(1, to._int);
+        assertEquals(2L, to._long);
+        assertEquals(3.0, to._double, 0.0);
+        assertSame(from._object, to._object);
+    }
+
+    @Test
+    public void setToDefault() throws NoSuchFieldException {
+        AllTypesContainer foo = new AllTypesContainer();
+        foo._int = 1;
+        foo._boolean = true;
+        foo._object = new Object();
+
+        for (String name : new String[] { "_int", "_boolean", "_object" }) {
+            handleFor(AllTypesContainer.class, name).setToDefault(foo);
+        }
+
+        assertEquals(0, foo._int);
+        assertFalse(foo._boolean);
+        assertNull(foo._object);
+    }
+
+    @Test
+    public void staticFinalCanBeReadButNotModified() throws NoSuchFieldException {
+        FieldHandle handle = handleFor(StaticFinalContainer.class, "CONST");
+
+        assertFalse(handle.canBeModifiedReflectively());
+        assertTrue(handle.isStatic());
+        assertEquals(42, handle.get(null));
+        assertThrows(ReflectionException.class, () -> handle.set(null, 1337));
+    }
+
+    @Test
+    public void wrongObjectTypeIsReportedLikeReflection() throws NoSuchFieldException {
+        FieldHandle handle = handleFor(PrimitiveContainer.class, FIELD_NAME);
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> handle.set(new ObjectContainer(), 1)
+        );
+        assertTrue(e.getMessage().startsWith("Can not set"));
+    }
+
+    @Test
+    public void wrongValueTypeIsReportedLikeReflection() throws NoSuchFieldException {
+        FieldHandle handle = handleFor(PrimitiveContainer.class, FIELD_NAME);
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> handle.set(new PrimitiveContainer(), "not an int")
+        );
+        assertTrue(e.getMessage().startsWith("Can not set"));
+    }
+
+    @Test
+    public void nullIntoPrimitiveIsReportedLikeReflection() throws NoSuchFieldException {
+        FieldHandle handle = handleFor(PrimitiveContainer.class, FIELD_NAME);
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> handle.set(new PrimitiveContainer(), null)
+        );
+        assertTrue(e.getMessage().startsWith("Can not set"));
+    }
+
+    private FieldHandle handleFor(Class<?> type, String fieldName) throws NoSuchFieldException {
+        return FieldHandle.of(type.getDeclaredField(fieldName));
+    }
+}
@@ -0,0 +1,85 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AllTypesContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.DifferentAccessModifiersSubFieldContainer;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.NoFields;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.StaticFinalContainer;
+import org.junit.jupiter.api.Test;
+
+public class FieldHandlesTest {
+
+    @Test
+    public void handlesAreCachedPerClass() {
+        assertSame(FieldHandles.of(AllTypesContainer.class), FieldHandles.of(AllTypesContainer.class));
+    }
+
+    @Test
+    public void classesWithoutModifiableInstanceFieldsAreNotSupported() {
+        assertFalse(FieldHandles.of(NoFields.class).isSupported());
+        assertFalse(FieldHandles.of(StaticFinalContainer.class).isSupported());
+    }
+
+    @Test
+    public void classesAreNotSupportedWhenBulkAccessIsSwitchedOff() {
+        assertTrue(FieldHandles.create(AllTypesContainer.class, true).isSupported());
+        assertFalse(FieldHandles.create(AllTypesContainer.class, false).isSupported());
+    }
+
+    @Test
+    public void copyCopiesAllFields() {
+        AllTypesContainer from = new AllTypesContainer();
+        from._int = 1;
+        from._long = 2L;
+        from._double = 3.0;
+        from._boolean = true;
+        from._object = new Object();
+        from._array = new int[] { 4 };
+        AllTypesContainer to = new AllTypesContainer();
+        to._object = null;
+
+        FieldHandles handles = FieldHandles.create(AllTypesContainer.class, true);
+        assertTrue(handles.isSupported());
+        handles.copy(from, to);
+
+        assertEquals(from, to);
+        assertSame(from._object, to._object);
+        assertArrayEquals(from._array, to._array);
+    }
+
+    @Test
+    public void copyIncludesSuperclassFields() {
+        DifferentAccessModifiersSubFieldContainer from =
+            new DifferentAccessModifiersSubFieldContainer();
+        DifferentAccessModifiersSubFieldContainer to =
+            new DifferentAccessModifiersSubFieldContainer();
+
+        FieldHandles.create(DifferentAccessModifiersSubFieldContainer.class, true).copy(from, to);
+
+        for (Field f : FieldIterable.ofIgnoringStatic(from.getClass())) {
+            assertEquals(FieldAccessor.of(f).get(from), FieldAccessor.of(f).get(to));
+        }
+    }
+
+    @Test
+    public void clearSetsAllFieldsToDefault() {
+        AllTypesContainer foo = new AllTypesContainer();
+        foo._int = 1;
+        foo._boolean = true;
+        foo._object = new Object();
+
+        FieldHandles.create(AllTypesContainer.class, true).clear(foo);
+
+        assertEquals(0, foo._int);
+        assertFalse(foo._boolean);
+        assertNull(foo._object);
+        assertNull(foo._string);
+    }
+}
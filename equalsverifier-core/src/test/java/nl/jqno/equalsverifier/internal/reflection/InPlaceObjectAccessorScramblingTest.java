@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.text.AttributedString;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import nl.jqno.equalsverifier.internal.exceptions.ModuleException;
 import nl.jqno.equalsverifier.internal.prefabvalues.*;
@@ -20,7 +19,7 @@ import org.junit.jupiter.api.condition.JRE;
 
 public class InPlaceObjectAccessorScramblingTest {
 
-    private static final LinkedHashSet<TypeTag> EMPTY_TYPE_STACK = new LinkedHashSet<>();
+    private static final TypeStack EMPTY_TYPE_STACK = TypeStack.empty();
     private PrefabValues prefabValues;
 
     @BeforeEach
@@ -3,12 +3,22 @@ package nl.jqno.equalsverifier.internal.reflection;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.TypeManifestation;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import nl.jqno.equalsverifier.testhelpers.types.ColorBlindColorPoint;
 import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
@@ -118,4 +128,87 @@ public class InstantiatorTest {
             .getLoaded();
         Instantiator.giveDynamicSubclass(type, "X", b -> b);
     }
+
+    @Test
+    public void instantiatorsAreCached() {
+        assertSame(Instantiator.of(Point.class), Instantiator.of(Point.class));
+    }
+
+    @Test
+    public void instantiatorsAreResolvedAgainAfterReset() {
+        Instantiator<Point> before = Instantiator.of(Point.class);
+        Instantiator.resetCaches();
+        Instantiator<Point> after = Instantiator.of(Point.class);
+
+        assertNotSame(before, after);
+        assertEquals(Point.class, after.instantiate().getClass());
+    }
+
+    @Test
+    public void cachesDoNotKeepClassLoadersAlive() throws InterruptedException {
+        WeakReference<ClassLoader> loader = useClassLoaderThatGoesOutOfScope();
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+    }
+
+    private WeakReference<ClassLoader> useClassLoaderThatGoesOutOfScope() {
+        Class<?> type = new ByteBuddy()
+            .subclass(Object.class)
+            .name("nl.jqno.equalsverifier.internal.reflection.Unloadable")
+            .modifiers(Visibility.PUBLIC, TypeManifestation.ABSTRACT)
+            .make()
+            .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+            .getLoaded();
+        Instantiator.of(type);
+        Instantiator.giveDynamicSubclass(type, "X", b -> b);
+        return new WeakReference<>(type.getClassLoader());
+    }
+
+    @Test
+    public void giveDynamicSubclassTwiceGivesTheSameClass() {
+        class Super {}
+        Class<?> first = Instantiator.giveDynamicSubclass(Super.class, "", b -> b);
+        Class<?> second = Instantiator.giveDynamicSubclass(Super.class, "", b -> b);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void giveDynamicSubclassAfterResetGivesTheSameClass() {
+        class Super {}
+        Class<?> first = Instantiator.giveDynamicSubclass(Super.class, "", b -> b);
+        Instantiator.resetCaches();
+        Class<?> second = Instantiator.giveDynamicSubclass(Super.class, "", b -> b);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void giveDynamicSubclassWithDifferentSuffixesGivesDifferentClasses() {
+        class Super {}
+        Class<?> first = Instantiator.giveDynamicSubclass(Super.class, "a", b -> b);
+        Class<?> second = Instantiator.giveDynamicSubclass(Super.class, "b", b -> b);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void giveDynamicSubclassConcurrently() throws Exception {
+        class Super {}
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(
+                    executor.submit(() -> Instantiator.giveDynamicSubclass(Super.class, "", b -> b))
+                );
+            }
+            Class<?> expected = futures.get(0).get();
+            for (Future<Class<?>> future : futures) {
+                assertSame(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -2,16 +2,40 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.testhelpers.Util.coverThePrivateConstructor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.stream.Collectors;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
 import nl.jqno.equalsverifier.testhelpers.packages.correct.C;
+import nl.jqno.equalsverifier.testhelpers.packages.staticinitializer.InitializationTracker;
+import nl.jqno.equalsverifier.testhelpers.packages.staticinitializer.Marked;
+import nl.jqno.equalsverifier.testhelpers.packages.staticinitializer.Marker;
+import nl.jqno.equalsverifier.testhelpers.packages.staticinitializer.Unmarked;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubA1;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubA2;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SubI1;
@@ -20,9 +44,25 @@ import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SuperA;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.SuperI;
 import nl.jqno.equalsverifier.testhelpers.packages.subclasses.subpackage.SubA3;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class PackageScannerTest {
 
+    private static final String CORRECT = "nl.jqno.equalsverifier.testhelpers.packages.correct";
+    private static final String SUBCLASSES =
+        "nl.jqno.equalsverifier.testhelpers.packages.subclasses";
+    private static final Class<?>[] SUBCLASSES_IN_JAR = {
+        SuperA.class,
+        SubA1.class,
+        SubA2.class,
+        SuperI.class,
+        SubI1.class,
+        SubA3.class,
+    };
+
+    @TempDir
+    public Path directory;
+
     @Test
     public void coverTheConstructor() {
         coverThePrivateConstructor(PackageScanner.class);
@@ -95,6 +135,18 @@ public class PackageScannerTest {
         assertEquals(Arrays.asList(SubA1.class, SubA2.class, SubA3.class), classes);
     }
 
+    @Test
+    public void classesAreReturnedInAlphabeticalOrder() {
+        List<Class<?>> classes = PackageScanner.getClassesIn(
+            "nl.jqno.equalsverifier.testhelpers.packages.subclasses",
+            null,
+            true
+        );
+        List<Class<?>> sorted = new ArrayList<>(classes);
+        sort(sorted);
+        assertEquals(sorted, classes);
+    }
+
     @Test
     public void filterOutTestClasses() {
         List<Class<?>> classes = PackageScanner.getClassesIn(
@@ -161,7 +213,247 @@ public class PackageScannerTest {
         );
     }
 
+    @Test
+    public void classesThatAreFilteredOutAreNotInitialized() {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        RecordingClassLoader recorder = new RecordingClassLoader(original);
+        thread.setContextClassLoader(recorder);
+        try {
+            List<Class<?>> classes = PackageScanner.getClassesIn(
+                "nl.jqno.equalsverifier.testhelpers.packages.staticinitializer",
+                Marker.class,
+                false
+            );
+            assertEquals(Collections.singletonList(Marked.class), classes);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        assertTrue(recorder.requested.contains(Marked.class.getName()));
+        assertFalse(recorder.requested.contains(Unmarked.class.getName()));
+        assertFalse(recorder.requested.contains(InitializationTracker.class.getName()));
+        assertEquals(Collections.emptySet(), InitializationTracker.INITIALIZED);
+    }
+
+    @Test
+    public void classesWhoseClassFileCantBeParsedAreFilteredAfterLoading() {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(new UnparseableClassFileLoader(original, Marked.class));
+        try {
+            List<Class<?>> classes = PackageScanner.getClassesIn(
+                "nl.jqno.equalsverifier.testhelpers.packages.staticinitializer",
+                Marker.class,
+                false
+            );
+            assertEquals(Collections.singletonList(Marked.class), classes);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void classesThatAreReturnedAreNotInitialized() {
+        List<Class<?>> classes = PackageScanner.getClassesIn(
+            "nl.jqno.equalsverifier.testhelpers.packages.staticinitializer",
+            null,
+            false
+        );
+        sort(classes);
+        assertEquals(
+            Arrays.asList(InitializationTracker.class, Marked.class, Marker.class, Unmarked.class),
+            classes
+        );
+        assertEquals(Collections.emptySet(), InitializationTracker.INITIALIZED);
+    }
+
+    @Test
+    public void packageInJarFile() throws IOException {
+        Path jar = createJar("test.jar", true, true, A.class, B.class, C.class, SubA3.class);
+
+        List<String> classes = getClassNamesInJar(jar, CORRECT, null, false);
+        assertEquals(Arrays.asList(A.class.getName(), B.class.getName(), C.class.getName()), classes);
+    }
+
+    @Test
+    public void packageInJarFileRecursively() throws IOException {
+        Path jar = createJar("test.jar", true, true, SUBCLASSES_IN_JAR);
+
+        List<String> classes = getClassNamesInJar(jar, SUBCLASSES, SuperA.class, true);
+        assertEquals(
+            Arrays.asList(SubA1.class.getName(), SubA2.class.getName(), SubA3.class.getName()),
+            classes
+        );
+    }
+
+    @Test
+    public void packageInJarFileWithoutDirectoryEntriesIsFoundThroughManifest() throws IOException {
+        Path jar = createJar("test.jar", false, true, A.class, B.class, C.class, SubA3.class);
+
+        List<String> classes = getClassNamesInJar(jar, CORRECT, null, false);
+        assertEquals(Arrays.asList(A.class.getName(), B.class.getName(), C.class.getName()), classes);
+    }
+
+    @Test
+    public void packageInJarFileWithoutDirectoryEntriesIsFoundThroughMustExtend()
+        throws IOException {
+        Path jar = createJar("test.jar", false, false, SUBCLASSES_IN_JAR);
+
+        List<String> classes = getClassNamesInJar(jar, SUBCLASSES, SuperA.class, true);
+        assertEquals(
+            Arrays.asList(SubA1.class.getName(), SubA2.class.getName(), SubA3.class.getName()),
+            classes
+        );
+    }
+
+    @Test
+    public void packageInUnsupportedLocation() {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(new UnsupportedLocationLoader(original));
+        try {
+            ReflectionException e = assertThrows(
+                ReflectionException.class,
+                () -> PackageScanner.getClassesIn(CORRECT, null, false)
+            );
+            assertTrue(e.getMessage().contains("only directories and JAR files are supported"));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
     private void sort(List<Class<?>> classes) {
         classes.sort(Comparator.comparing(Class::getName));
     }
+
+    private Path createJar(
+        String name,
+        boolean withDirectoryEntries,
+        boolean withManifest,
+        Class<?>... classes
+    ) throws IOException {
+        Path jar = directory.resolve(name);
+        Set<String> directories = new HashSet<>();
+        try (
+            JarOutputStream out = withManifest
+                ? new JarOutputStream(Files.newOutputStream(jar), manifest())
+                : new JarOutputStream(Files.newOutputStream(jar))
+        ) {
+            for (Class<?> type : classes) {
+                String entry = type.getName().replace('.', '/') + ".class";
+                int slash = entry.indexOf('/');
+                while (withDirectoryEntries && slash >= 0) {
+                    String dir = entry.substring(0, slash + 1);
+                    if (directories.add(dir)) {
+                        out.putNextEntry(new JarEntry(dir));
+                        out.closeEntry();
+                    }
+                    slash = entry.indexOf('/', slash + 1);
+                }
+                out.putNextEntry(new JarEntry(entry));
+                try (InputStream in = type.getClassLoader().getResourceAsStream(entry)) {
+                    byte[] buffer = new byte[4096];
+                    for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                        out.write(buffer, 0, n);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Manifest manifest() {
+        Manifest result = new Manifest();
+        result.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        return result;
+    }
+
+    /*
+     * Scans the package with a ClassLoader that only sees the given JAR, so the classes it finds
+     * can only come from there. If mustExtend is given, its counterpart from the JAR is used.
+     */
+    private List<String> getClassNamesInJar(
+        Path jar,
+        String packageName,
+        Class<?> mustExtend,
+        boolean scanRecursively
+    ) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { jar.toUri().toURL() }, null)) {
+            thread.setContextClassLoader(loader);
+            Class<?> mustExtendInJar = mustExtend == null
+                ? null
+                : Class.forName(mustExtend.getName(), false, loader);
+            return PackageScanner
+                .getClassesIn(packageName, mustExtendInJar, scanRecursively)
+                .stream()
+                .peek(c -> assertSame(loader, c.getClassLoader()))
+                .map(Class::getName)
+                .collect(Collectors.toList());
+        } catch (ClassNotFoundException e) {
+            throw new AssertionError(e);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /*
+     * Delegates everything to its parent, but remembers which classes were asked for, so a test
+     * can check that a class was never loaded through it.
+     */
+    private static final class RecordingClassLoader extends ClassLoader {
+
+        private final Set<String> requested = ConcurrentHashMap.newKeySet();
+
+        private RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requested.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+
+    /*
+     * Finds every package in a location that is neither a directory nor a JAR file.
+     */
+    private static final class UnsupportedLocationLoader extends ClassLoader {
+
+        private UnsupportedLocationLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return Collections.enumeration(
+                Collections.singletonList(new URL("http://localhost/" + name))
+            );
+        }
+    }
+
+    /*
+     * Loads classes through its parent, but serves garbage instead of the class file of the given
+     * class, like a class file that ByteBuddy can't parse.
+     */
+    private static final class UnparseableClassFileLoader extends ClassLoader {
+
+        private final String resource;
+
+        private UnparseableClassFileLoader(ClassLoader parent, Class<?> type) {
+            super(parent);
+            this.resource = type.getName().replace('.', '/') + ".class";
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (resource.equals(name)) {
+                return new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
 }
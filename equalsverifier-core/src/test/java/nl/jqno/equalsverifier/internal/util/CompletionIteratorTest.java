@@ -0,0 +1,82 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CompletionIteratorTest {
+
+    // Runs each task on the calling thread, so the futures complete in the order they're submitted.
+    private final CompletionService<String> completion = new ExecutorCompletionService<>(
+        Runnable::run
+    );
+    private final Set<Future<String>> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    public void takenFuturesAreNoLongerPending() {
+        Future<String> first = completion.submit(() -> "first");
+        Future<String> second = completion.submit(() -> "second");
+        pending.add(first);
+        pending.add(second);
+        CompletionIterator<String> iterator = create();
+
+        assertEquals("first", iterator.next());
+        assertFalse(pending.contains(first));
+        assertTrue(pending.contains(second));
+
+        assertEquals("second", iterator.next());
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    public void closesAfterTheLastResult() {
+        pending.add(completion.submit(() -> "first"));
+        pending.add(completion.submit(() -> "second"));
+        CompletionIterator<String> iterator = create();
+
+        iterator.next();
+        assertEquals(0, closed.get());
+        assertTrue(iterator.hasNext());
+
+        iterator.next();
+        assertEquals(1, closed.get());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void closesWhenAResultCantBeRetrieved() {
+        pending.add(completion.submit(() -> {
+            throw new IllegalArgumentException("boom");
+        }));
+        pending.add(completion.submit(() -> "second"));
+        CompletionIterator<String> iterator = create();
+
+        assertThrows(IllegalStateException.class, iterator::next);
+        assertEquals(1, closed.get());
+    }
+
+    private CompletionIterator<String> create() {
+        return new CompletionIterator<>(completion, pending, this::await, closed::incrementAndGet);
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResultCacheTest {
+
+    private static final List<Class<?>> POINT = Collections.singletonList(Point.class);
+    private static final String FIRST = key(1);
+    private static final String SECOND = key(2);
+    private static final String THIRD = key(3);
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void keyIsStable() {
+        ResultCache cache = new ResultCache(directory, 10);
+        assertEquals(cache.keyFor(POINT, "config"), cache.keyFor(POINT, "config"));
+    }
+
+    @Test
+    public void keyDependsOnTypeAndFingerprint() {
+        ResultCache cache = new ResultCache(directory, 10);
+        String key = cache.keyFor(POINT, "config");
+        assertNotEquals(key, cache.keyFor(POINT, "other config"));
+        assertNotEquals(key, cache.keyFor(Collections.singletonList(Point3D.class), "config"));
+    }
+
+    @Test
+    public void keyIsNullWhenClassFileCantBeFound() {
+        Class<?> generated = new ByteBuddy()
+            .subclass(Object.class)
+            .make()
+            .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+            .getLoaded();
+        ResultCache cache = new ResultCache(directory, 10);
+        assertNull(cache.keyFor(Arrays.asList(Point.class, generated), "config"));
+    }
+
+    @Test
+    public void containsOnlyAddedKeys() {
+        ResultCache cache = new ResultCache(directory, 10);
+        String key = cache.keyFor(POINT, "config");
+        assertFalse(cache.contains(key));
+
+        cache.add(key);
+        assertTrue(cache.contains(key));
+        assertTrue(new ResultCache(directory, 10).contains(key));
+    }
+
+    @Test
+    public void addingAKeyTwiceIsHarmless() {
+        ResultCache cache = new ResultCache(directory, 10);
+        String key = cache.keyFor(POINT, "config");
+        cache.add(key);
+        cache.add(key);
+        assertTrue(cache.contains(key));
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws IOException {
+        ResultCache cache = new ResultCache(directory, 2);
+        cache.add(FIRST);
+        Files.setLastModifiedTime(directory.resolve(FIRST), FileTime.fromMillis(1000));
+        cache.add(SECOND);
+        Files.setLastModifiedTime(directory.resolve(SECOND), FileTime.fromMillis(2000));
+
+        cache.add(THIRD);
+
+        assertFalse(Files.exists(directory.resolve(FIRST)));
+        assertTrue(cache.contains(SECOND));
+        assertTrue(cache.contains(THIRD));
+    }
+
+    @Test
+    public void evictionFreesATenthOfTheEntries() throws IOException {
+        ResultCache cache = new ResultCache(directory, 10);
+        for (int i = 0; i < 11; i++) {
+            cache.add(key(i));
+            Files.setLastModifiedTime(directory.resolve(key(i)), FileTime.fromMillis(1000 * i));
+        }
+        assertEquals(9, countFiles());
+        assertFalse(Files.exists(directory.resolve(key(0))));
+        assertFalse(Files.exists(directory.resolve(key(1))));
+    }
+
+    @Test
+    public void entriesThatAlreadyExistAreCounted() throws IOException {
+        new ResultCache(directory, 2).add(FIRST);
+        Files.setLastModifiedTime(directory.resolve(FIRST), FileTime.fromMillis(1000));
+        new ResultCache(directory, 2).add(SECOND);
+
+        new ResultCache(directory, 2).add(THIRD);
+
+        assertFalse(Files.exists(directory.resolve(FIRST)));
+    }
+
+    @Test
+    public void filesThatAreNotEntriesAreNeverEvicted() throws IOException {
+        Path unrelated = Files.createFile(directory.resolve("unrelated"));
+        Files.setLastModifiedTime(unrelated, FileTime.fromMillis(0));
+        ResultCache cache = new ResultCache(directory, 1);
+
+        cache.add(FIRST);
+        cache.add(SECOND);
+
+        assertTrue(Files.exists(unrelated));
+        assertTrue(cache.contains(SECOND));
+    }
+
+    @Test
+    public void unwritableDirectoryIsIgnored() throws IOException {
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+        ResultCache cache = new ResultCache(file, 10);
+        cache.add(FIRST);
+        assertFalse(cache.contains(FIRST));
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static String key(int i) {
+        return String.format("%064x", i);
+    }
+}
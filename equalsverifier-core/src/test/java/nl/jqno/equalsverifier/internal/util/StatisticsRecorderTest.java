@@ -0,0 +1,84 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import nl.jqno.equalsverifier.VerificationStatistics;
+import org.junit.jupiter.api.Test;
+
+public class StatisticsRecorderTest {
+
+    @Test
+    public void countsOnlyWhileStarted() {
+        StatisticsRecorder.objectInstantiated();
+        StatisticsRecorder recorder = StatisticsRecorder.start();
+        try {
+            StatisticsRecorder.objectInstantiated();
+            StatisticsRecorder.fieldsWritten(3);
+            StatisticsRecorder.prefabCacheHit();
+            StatisticsRecorder.prefabCacheMiss();
+            StatisticsRecorder.dynamicSubclassGenerated();
+        } finally {
+            recorder.stop();
+        }
+        StatisticsRecorder.objectInstantiated();
+
+        VerificationStatistics statistics = recorder.statistics();
+        assertEquals(1, statistics.getObjectsInstantiated());
+        assertEquals(3, statistics.getFieldsWritten());
+        assertEquals(1, statistics.getPrefabCacheHits());
+        assertEquals(1, statistics.getPrefabCacheMisses());
+        assertEquals(1, statistics.getDynamicSubclassesGenerated());
+    }
+
+    @Test
+    public void nestedRecordersDontShareCounters() {
+        StatisticsRecorder outer = StatisticsRecorder.start();
+        try {
+            StatisticsRecorder inner = StatisticsRecorder.start();
+            try {
+                StatisticsRecorder.objectInstantiated();
+            } finally {
+                inner.stop();
+            }
+            StatisticsRecorder.objectInstantiated();
+            StatisticsRecorder.objectInstantiated();
+            assertEquals(1, inner.statistics().getObjectsInstantiated());
+        } finally {
+            outer.stop();
+        }
+        assertEquals(2, outer.statistics().getObjectsInstantiated());
+    }
+
+    @Test
+    public void recordsPhasesInOrder() {
+        StatisticsRecorder recorder = StatisticsRecorder.start();
+        try {
+            recorder.time("first", () -> {});
+            recorder.time("second", () -> {});
+            recorder.time("first", () -> {});
+        } finally {
+            recorder.stop();
+        }
+
+        VerificationStatistics statistics = recorder.statistics();
+        assertEquals(
+            Arrays.asList("first", "second"),
+            new ArrayList<>(statistics.getDurations().keySet())
+        );
+        Duration first = statistics.getDurations().get("first");
+        assertTrue(statistics.getTotalDuration().compareTo(first) >= 0);
+    }
+
+    @Test
+    public void stoppingTwiceIsHarmless() {
+        StatisticsRecorder recorder = StatisticsRecorder.start();
+        recorder.stop();
+        recorder.stop();
+        StatisticsRecorder.objectInstantiated();
+        assertEquals(0, recorder.statistics().getObjectsInstantiated());
+    }
+}
@@ -0,0 +1,88 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.GregorianCalendar;
+import java.util.concurrent.atomic.AtomicReference;
+import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
+import org.junit.jupiter.api.Test;
+
+public class VerificationSessionTest {
+
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+    private static final PrefabValueFactory<String> STRING_FACTORY = values("a", "b", "a");
+
+    private final VerificationSession session = new VerificationSession();
+
+    @Test
+    public void returnedPrefabValuesAreLentOutAgainForSameFactories() {
+        FactoryCache first = new FactoryCache();
+        first.put(String.class, STRING_FACTORY);
+        FactoryCache second = new FactoryCache();
+        second.put(String.class, STRING_FACTORY);
+
+        PrefabValues firstValues = session.borrowPrefabValues(first);
+        session.returnPrefabValues(firstValues);
+
+        assertSame(firstValues, session.borrowPrefabValues(second));
+    }
+
+    @Test
+    public void borrowedPrefabValuesAreNotLentOutTwice() {
+        FactoryCache factories = new FactoryCache();
+
+        PrefabValues first = session.borrowPrefabValues(factories);
+        PrefabValues second = session.borrowPrefabValues(factories);
+
+        assertNotSame(first, second);
+        assertNotSame(
+            first.giveRed(new TypeTag(GregorianCalendar.class)),
+            second.giveRed(new TypeTag(GregorianCalendar.class))
+        );
+    }
+
+    @Test
+    public void differentFactoriesGiveDifferentPrefabValues() {
+        FactoryCache first = new FactoryCache();
+        FactoryCache second = new FactoryCache();
+        second.put(String.class, STRING_FACTORY);
+
+        PrefabValues firstValues = session.borrowPrefabValues(first);
+        session.returnPrefabValues(firstValues);
+        PrefabValues secondValues = session.borrowPrefabValues(second);
+
+        assertNotSame(firstValues, secondValues);
+        assertEquals("one", firstValues.giveRed(STRING_TAG));
+        assertEquals("a", secondValues.giveRed(STRING_TAG));
+    }
+
+    @Test
+    public void prefabValuesReturnedByOneThreadAreLentOutToAnother() throws Exception {
+        FactoryCache factories = new FactoryCache();
+        PrefabValues mine = session.borrowPrefabValues(factories);
+        session.returnPrefabValues(mine);
+        AtomicReference<PrefabValues> theirs = new AtomicReference<>();
+
+        Thread other = new Thread(() -> theirs.set(session.borrowPrefabValues(factories)));
+        other.start();
+        other.join();
+
+        assertSame(mine, theirs.get());
+    }
+
+    @Test
+    public void modifyingFactoriesAfterwardsInvalidatesPrefabValues() {
+        FactoryCache factories = new FactoryCache();
+        PrefabValues before = session.borrowPrefabValues(factories);
+        session.returnPrefabValues(before);
+        factories.put(String.class, STRING_FACTORY);
+
+        assertNotSame(before, session.borrowPrefabValues(factories));
+    }
+}
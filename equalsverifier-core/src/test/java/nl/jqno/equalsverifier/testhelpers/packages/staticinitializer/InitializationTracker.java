@@ -0,0 +1,11 @@
+package nl.jqno.equalsverifier.testhelpers.packages.staticinitializer;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class InitializationTracker {
+
+    public static final Set<String> INITIALIZED = ConcurrentHashMap.newKeySet();
+
+    private InitializationTracker() {}
+}
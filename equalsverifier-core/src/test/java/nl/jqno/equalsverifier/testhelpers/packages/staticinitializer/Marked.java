@@ -0,0 +1,8 @@
+package nl.jqno.equalsverifier.testhelpers.packages.staticinitializer;
+
+public final class Marked implements Marker {
+
+    static {
+        InitializationTracker.INITIALIZED.add(Marked.class.getSimpleName());
+    }
+}
@@ -0,0 +1,3 @@
+package nl.jqno.equalsverifier.testhelpers.packages.staticinitializer;
+
+public interface Marker {}
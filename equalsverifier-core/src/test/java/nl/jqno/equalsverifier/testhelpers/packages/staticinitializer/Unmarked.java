@@ -0,0 +1,8 @@
+package nl.jqno.equalsverifier.testhelpers.packages.staticinitializer;
+
+public final class Unmarked {
+
+    static {
+        InitializationTracker.INITIALIZED.add(Unmarked.class.getSimpleName());
+    }
+}
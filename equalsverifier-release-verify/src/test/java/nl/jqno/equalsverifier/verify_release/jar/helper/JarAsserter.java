@@ -31,7 +31,9 @@ public class JarAsserter {
     public void assertPresenceOfMultiReleaseClasses() {
         assertPresenceOf(
             "/META-INF/versions/16" + EV + "/internal/reflection/RecordsHelper.class",
-            "/META-INF/versions/17" + EV + "/internal/reflection/SealedTypesHelper.class"
+            "/META-INF/versions/17" + EV + "/internal/reflection/SealedTypesHelper.class",
+            "/META-INF/versions/17" + EV + "/internal/util/FlightRecorderHelper.class",
+            "/META-INF/versions/21" + EV + "/internal/util/VirtualThreadsHelper.class"
         );
     }
 
@@ -119,6 +121,11 @@ public class JarAsserter {
                 assertVersionOfClassFile(
                     61,
                     "/META-INF/versions/17" + EV + "/internal/reflection/SealedTypesHelper.class"
+                ),
+            () ->
+                assertVersionOfClassFile(
+                    65,
+                    "/META-INF/versions/21" + EV + "/internal/util/VirtualThreadsHelper.class"
                 )
         );
     }